@@ -0,0 +1,73 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.InstructionMessageParser;
+
+import java.util.Random;
+
+final class BenchmarkMessages {
+
+    static final int MESSAGES = 4096;
+    static final int MESSAGES_MASK = MESSAGES - 1;
+
+    private static final String[] INSTRUCTION_TYPES = {"A", "B", "C", "D"};
+    private static final String PRIORITY_MIX_DELIMITER = ":";
+    private static final long SEED = 42;
+
+    private BenchmarkMessages() {
+    }
+
+    static String[] lines(String priorityMix) {
+        int[] weights = weights(priorityMix);
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        Random random = new Random(SEED);
+        String[] lines = new String[MESSAGES];
+        for (int index = 0; index < MESSAGES; index++) {
+            lines[index] = line(instructionType(weights, random.nextInt(totalWeight)), random);
+        }
+        return lines;
+    }
+
+    static InstructionMessage[] messages(String priorityMix) {
+        InstructionMessageParser parser = new InstructionMessageParser();
+        String[] lines = lines(priorityMix);
+        InstructionMessage[] messages = new InstructionMessage[lines.length];
+        for (int index = 0; index < lines.length; index++) {
+            messages[index] = parser.parse(lines[index]);
+        }
+        return messages;
+    }
+
+    static int[] weights(String priorityMix) {
+        String[] ratios = priorityMix.split(PRIORITY_MIX_DELIMITER);
+        if (ratios.length != INSTRUCTION_TYPES.length) {
+            throw new IllegalArgumentException("Priority mix must have A:B:C:D ratios: " + priorityMix);
+        }
+        int[] weights = new int[ratios.length];
+        for (int index = 0; index < ratios.length; index++) {
+            weights[index] = Integer.parseInt(ratios[index]);
+        }
+        return weights;
+    }
+
+    static String instructionType(int[] weights, int draw) {
+        int index = 0;
+        while (draw >= weights[index]) {
+            draw -= weights[index];
+            index++;
+        }
+        return INSTRUCTION_TYPES[index];
+    }
+
+    private static String line(String instructionType, Random random) {
+        return String.format("InstructionMessage %s %c%c%02d %d %d 2015-03-05T10:%02d:%02d.%03dZ",
+                instructionType,
+                (char) ('A' + random.nextInt(26)), (char) ('A' + random.nextInt(26)), random.nextInt(100),
+                1 + random.nextInt(10_000), random.nextInt(256),
+                random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.epam.instruction.message.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class BenchmarkRunner {
+
+    private static final String THREAD_COUNTS_PROPERTY = "benchmark.threads";
+    private static final String DEFAULT_THREAD_COUNTS = "1,2,4,8,16,32";
+    private static final String THREAD_COUNTS_DELIMITER = ",";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.getThreads().hasValue()) {
+            run(commandLineOptions, commandLineOptions.getThreads().get());
+            return;
+        }
+        for (String threads : System.getProperty(THREAD_COUNTS_PROPERTY, DEFAULT_THREAD_COUNTS).split(THREAD_COUNTS_DELIMITER)) {
+            run(commandLineOptions, Integer.parseInt(threads.trim()));
+        }
+    }
+
+    private static void run(CommandLineOptions commandLineOptions, int threads) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .threads(threads)
+                .addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON).result("jmh-result-" + threads + "-threads.json");
+        }
+        new Runner(options.build()).run();
+    }
+
+}
\ No newline at end of file
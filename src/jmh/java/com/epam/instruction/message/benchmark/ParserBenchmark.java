@@ -0,0 +1,45 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParserBenchmark {
+
+    @Param({"25:25:25:25", "10:20:35:35"})
+    private String priorityMix;
+
+    private InstructionMessageParser parser;
+    private String[] lines;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        parser = new InstructionMessageParser();
+        lines = BenchmarkMessages.lines(priorityMix);
+    }
+
+    @Benchmark
+    public InstructionMessage parse() {
+        return parser.parse(lines[next++ & BenchmarkMessages.MESSAGES_MASK]);
+    }
+
+}
\ No newline at end of file
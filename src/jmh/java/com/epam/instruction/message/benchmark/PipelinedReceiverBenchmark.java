@@ -0,0 +1,99 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.receiver.PipelinedMessageReceiver;
+import com.epam.instruction.message.storage.ConcurrentInstructionQueue;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+public class PipelinedReceiverBenchmark {
+
+    private static final int BATCH_SIZE = BenchmarkMessages.MESSAGES;
+
+    @State(Scope.Benchmark)
+    public static class Pipeline {
+
+        @Param({"1", "2", "4", "8"})
+        private int workers;
+
+        @Param({"8192"})
+        private int ringSize;
+
+        @Param({"25:25:25:25"})
+        private String priorityMix;
+
+        private ConcurrentInstructionQueue queue;
+        private PipelinedMessageReceiver pipelinedReceiver;
+        private InstructionMessageReceiver receiver;
+        private String[] lines;
+
+        @Setup
+        public void setUp() {
+            InstructionMessageParser parser = new InstructionMessageParser();
+            InstructionMessageValidator validator = new InstructionMessageValidator();
+            queue = new ConcurrentInstructionQueue();
+            pipelinedReceiver = new PipelinedMessageReceiver(parser, validator, queue, workers, ringSize,
+                    (sequence, message, violations) -> {
+                    });
+            pipelinedReceiver.start();
+            receiver = new InstructionMessageReceiver(parser, validator, queue);
+            lines = BenchmarkMessages.lines(priorityMix);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pipelinedReceiver.close();
+        }
+
+        private int drain() {
+            int drained = 0;
+            while (queue.dequeue() != null) {
+                drained++;
+            }
+            return drained;
+        }
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int pipelinedReceive(Pipeline pipeline) {
+        for (String line : pipeline.lines) {
+            pipeline.pipelinedReceiver.submit(line);
+        }
+        pipeline.pipelinedReceiver.flush();
+        return pipeline.drain();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int synchronousReceive(Pipeline pipeline) {
+        for (String line : pipeline.lines) {
+            pipeline.receiver.tryReceive(line);
+        }
+        return pipeline.drain();
+    }
+
+}
\ No newline at end of file
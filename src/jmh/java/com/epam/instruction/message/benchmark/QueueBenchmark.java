@@ -0,0 +1,122 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.ConcurrentInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.MessageQueue;
+import com.epam.instruction.message.storage.PackedInstructionQueue;
+import com.epam.instruction.message.storage.ShardedInstructionQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueueBenchmark {
+
+    @State(Scope.Thread)
+    public static class ThreadLocalQueue {
+
+        @Param({"InstructionQueue", "ConcurrentInstructionQueue", "PackedInstructionQueue"})
+        private String implementation;
+
+        @Param({"1000", "1000000"})
+        private int queueDepth;
+
+        @Param({"25:25:25:25", "10:20:35:35"})
+        private String priorityMix;
+
+        private MessageQueue queue;
+        private InstructionMessage[] messages;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            queue = createQueue(implementation);
+            messages = BenchmarkMessages.messages(priorityMix);
+            for (int index = 0; index < queueDepth; index++) {
+                queue.enqueue(messages[index & BenchmarkMessages.MESSAGES_MASK]);
+            }
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedQueue {
+
+        @Param({"ConcurrentInstructionQueue", "ShardedInstructionQueue"})
+        private String implementation;
+
+        @Param({"1000", "1000000"})
+        private int queueDepth;
+
+        @Param({"25:25:25:25", "10:20:35:35"})
+        private String priorityMix;
+
+        private MessageQueue queue;
+        private InstructionMessage[] messages;
+
+        @Setup
+        public void setUp() {
+            queue = createQueue(implementation);
+            messages = BenchmarkMessages.messages(priorityMix);
+            for (int index = 0; index < queueDepth; index++) {
+                queue.enqueue(messages[index & BenchmarkMessages.MESSAGES_MASK]);
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+    }
+
+    static MessageQueue createQueue(String implementation) {
+        switch (implementation) {
+            case "InstructionQueue":
+                return new InstructionQueue();
+            case "ConcurrentInstructionQueue":
+                return new ConcurrentInstructionQueue();
+            case "PackedInstructionQueue":
+                return new PackedInstructionQueue();
+            case "ShardedInstructionQueue":
+                return new ShardedInstructionQueue();
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    public InstructionMessage enqueueDequeue(ThreadLocalQueue state) {
+        state.queue.enqueue(state.messages[state.next++ & BenchmarkMessages.MESSAGES_MASK]);
+        return state.queue.dequeue();
+    }
+
+    @Benchmark
+    public InstructionMessage peek(ThreadLocalQueue state) {
+        return state.queue.peek();
+    }
+
+    @Benchmark
+    public InstructionMessage sharedEnqueueDequeue(SharedQueue state, Cursor cursor) {
+        state.queue.enqueue(state.messages[cursor.next++ & BenchmarkMessages.MESSAGES_MASK]);
+        return state.queue.dequeue();
+    }
+
+}
\ No newline at end of file
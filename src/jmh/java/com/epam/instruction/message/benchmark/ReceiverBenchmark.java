@@ -0,0 +1,68 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.storage.ConcurrentInstructionQueue;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReceiverBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Pipeline {
+
+        @Param({"1000", "1000000"})
+        private int queueDepth;
+
+        @Param({"25:25:25:25", "10:20:35:35"})
+        private String priorityMix;
+
+        private ConcurrentInstructionQueue queue;
+        private InstructionMessageReceiver receiver;
+        private String[] lines;
+
+        @Setup
+        public void setUp() {
+            InstructionMessageParser parser = new InstructionMessageParser();
+            queue = new ConcurrentInstructionQueue();
+            receiver = new InstructionMessageReceiver(parser, new InstructionMessageValidator(), queue);
+            lines = BenchmarkMessages.lines(priorityMix);
+            for (int index = 0; index < queueDepth; index++) {
+                queue.enqueue(parser.parse(lines[index & BenchmarkMessages.MESSAGES_MASK]));
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+    }
+
+    @Benchmark
+    public InstructionMessage receiveAndDequeue(Pipeline pipeline, Cursor cursor) {
+        pipeline.receiver.receive(pipeline.lines[cursor.next++ & BenchmarkMessages.MESSAGES_MASK]);
+        return pipeline.queue.dequeue();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+import com.epam.instruction.message.metrics.HistogramSnapshot;
+import com.epam.instruction.message.metrics.LatencyHistogram;
+import com.epam.instruction.message.storage.AgingScheduler;
+import com.epam.instruction.message.storage.DequeueScheduler;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.StrictPriorityScheduler;
+import com.epam.instruction.message.storage.WeightedFairScheduler;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public final class SchedulerSimulation {
+
+    private static final String PRIORITY_MIX_PROPERTY = "simulation.priorityMix";
+    private static final String LOAD_PROPERTY = "simulation.load";
+    private static final String TICKS_PROPERTY = "simulation.ticks";
+    private static final String DEFAULT_PRIORITY_MIX = "40:30:15:15";
+    private static final String DEFAULT_LOAD = "0.97";
+    private static final String DEFAULT_TICKS = "2000000";
+    private static final long SEED = 42;
+
+    private long now;
+
+    private SchedulerSimulation() {
+    }
+
+    public static void main(String[] args) {
+        String priorityMix = System.getProperty(PRIORITY_MIX_PROPERTY, DEFAULT_PRIORITY_MIX);
+        double load = Double.parseDouble(System.getProperty(LOAD_PROPERTY, DEFAULT_LOAD));
+        long ticks = Long.parseLong(System.getProperty(TICKS_PROPERTY, DEFAULT_TICKS));
+        System.out.printf("priority mix %s, load %.2f, %d ticks, wait time in ticks%n", priorityMix, load, ticks);
+        System.out.printf("%-24s %-4s %10s %10s %10s %10s%n", "policy", "type", "p50", "p99", "p999", "max");
+        report("strict", new StrictPriorityScheduler(), priorityMix, load, ticks);
+        report("weighted 6:3:1", new WeightedFairScheduler(6, 3, 1), priorityMix, load, ticks);
+        report("aging 1000:1000:200", new AgingScheduler(1000, 1000, 200), priorityMix, load, ticks);
+    }
+
+    private static void report(String policy, DequeueScheduler scheduler, String priorityMix, double load, long ticks) {
+        LatencyHistogram[] waitTimes = new SchedulerSimulation().simulate(scheduler, priorityMix, load, ticks);
+        for (int type = 0; type < waitTimes.length; type++) {
+            HistogramSnapshot snapshot = waitTimes[type].snapshot();
+            System.out.printf("%-24s %-4s %10d %10d %10d %10d%n", policy, PackedInstructionMessage.instructionType(type),
+                    snapshot.getP50(), snapshot.getP99(), snapshot.getP999(), snapshot.getMax());
+        }
+    }
+
+    private LatencyHistogram[] simulate(DequeueScheduler scheduler, String priorityMix, double load, long ticks) {
+        int[] weights = BenchmarkMessages.weights(priorityMix);
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+        LatencyHistogram[] waitTimes = new LatencyHistogram[PackedInstructionMessage.INSTRUCTION_TYPES];
+        for (int type = 0; type < waitTimes.length; type++) {
+            waitTimes[type] = new LatencyHistogram();
+        }
+        InstructionQueue queue = new InstructionQueue(scheduler, () -> now);
+        Map<InstructionMessage, Long> enqueueTicks = new IdentityHashMap<>();
+        Random random = new Random(SEED);
+        for (now = 0; now < ticks; now++) {
+            for (int arrivals = poisson(random, load); arrivals > 0; arrivals--) {
+                InstructionMessage message = new InstructionMessage();
+                message.setInstructionType(BenchmarkMessages.instructionType(weights, random.nextInt(totalWeight)));
+                enqueueTicks.put(message, now);
+                queue.enqueue(message);
+            }
+            InstructionMessage message = queue.dequeue();
+            if (message != null) {
+                int type = PackedInstructionMessage.instructionTypeIndex(message.getInstructionType());
+                waitTimes[type].record(now - enqueueTicks.remove(message));
+            }
+        }
+        return waitTimes;
+    }
+
+    private static int poisson(Random random, double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int arrivals = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            arrivals++;
+        }
+        return arrivals;
+    }
+
+}
\ No newline at end of file
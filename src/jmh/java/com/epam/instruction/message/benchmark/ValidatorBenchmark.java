@@ -0,0 +1,48 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.ValidationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidatorBenchmark {
+
+    @Param({"AGGREGATE_ERRORS", "FAIL_FAST"})
+    private ValidationMode mode;
+
+    private InstructionMessageValidator validator;
+    private InstructionMessage[] messages;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        validator = new InstructionMessageValidator(mode);
+        messages = BenchmarkMessages.messages("25:25:25:25");
+    }
+
+    @Benchmark
+    public InstructionMessage validate() {
+        InstructionMessage message = messages[next++ & BenchmarkMessages.MESSAGES_MASK];
+        validator.validate(message);
+        return message;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.epam.instruction.message.benchmark;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.receiver.BinaryMessageReceiver;
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.support.InstructionMessageCodec;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WireFormatBenchmark {
+
+    @State(Scope.Thread)
+    public static class Frames {
+
+        @Param({"25:25:25:25"})
+        private String priorityMix;
+
+        private InstructionQueue queue;
+        private InstructionMessageReceiver textReceiver;
+        private BinaryMessageReceiver binaryReceiver;
+        private ByteBuffer textFrames;
+        private int[] textOffsets;
+        private int[] textLengths;
+        private ByteBuffer binaryFrames;
+        private int next;
+
+        @Setup
+        public void setUp() {
+            InstructionMessageParser parser = new InstructionMessageParser();
+            InstructionMessageValidator validator = new InstructionMessageValidator();
+            InstructionMessageCodec codec = new InstructionMessageCodec();
+            queue = new InstructionQueue();
+            textReceiver = new InstructionMessageReceiver(parser, validator, queue);
+            binaryReceiver = new BinaryMessageReceiver(codec, validator, queue);
+            String[] lines = BenchmarkMessages.lines(priorityMix);
+            textOffsets = new int[lines.length];
+            textLengths = new int[lines.length];
+            int textSize = 0;
+            for (String line : lines) {
+                textSize += line.length();
+            }
+            textFrames = ByteBuffer.allocateDirect(textSize);
+            binaryFrames = ByteBuffer.allocateDirect(lines.length * InstructionMessageCodec.RECORD_SIZE);
+            for (int index = 0; index < lines.length; index++) {
+                textOffsets[index] = textFrames.position();
+                textLengths[index] = lines[index].length();
+                textFrames.put(lines[index].getBytes(StandardCharsets.US_ASCII));
+                codec.encode(parser.parse(lines[index]), binaryFrames);
+            }
+        }
+
+    }
+
+    @Benchmark
+    public InstructionMessage receiveText(Frames frames) {
+        int index = frames.next++ & BenchmarkMessages.MESSAGES_MASK;
+        frames.textReceiver.tryReceive(frames.textFrames, frames.textOffsets[index], frames.textLengths[index]);
+        return frames.queue.dequeue();
+    }
+
+    @Benchmark
+    public InstructionMessage receiveBinary(Frames frames) {
+        int index = frames.next++ & BenchmarkMessages.MESSAGES_MASK;
+        frames.binaryReceiver.tryReceive(frames.binaryFrames, index * InstructionMessageCodec.RECORD_SIZE);
+        return frames.queue.dequeue();
+    }
+
+}
\ No newline at end of file
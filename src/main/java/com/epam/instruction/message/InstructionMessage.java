@@ -9,13 +9,21 @@ public class InstructionMessage {
     private int quantity;
     private int uom;
     private LocalDateTime timestamp;
+    private int instructionTypeIndex = PackedInstructionMessage.INVALID_INDEX;
+    private int productCodeIndex = PackedInstructionMessage.INVALID_INDEX;
 
     public String getInstructionType() {
         return instructionType;
     }
 
     public void setInstructionType(String instructionType) {
-        this.instructionType = instructionType;
+        this.instructionTypeIndex = PackedInstructionMessage.instructionTypeIndex(instructionType);
+        this.instructionType = instructionTypeIndex == PackedInstructionMessage.INVALID_INDEX ? instructionType
+                : PackedInstructionMessage.instructionType(instructionTypeIndex);
+    }
+
+    public int getInstructionTypeIndex() {
+        return instructionTypeIndex;
     }
 
     public String getProductCode() {
@@ -23,7 +31,13 @@ public class InstructionMessage {
     }
 
     public void setProductCode(String productCode) {
-        this.productCode = productCode;
+        this.productCodeIndex = PackedInstructionMessage.productCodeIndex(productCode);
+        this.productCode = productCodeIndex == PackedInstructionMessage.INVALID_INDEX ? productCode
+                : PackedInstructionMessage.productCode(productCodeIndex);
+    }
+
+    public int getProductCodeIndex() {
+        return productCodeIndex;
     }
 
     public int getQuantity() {
@@ -0,0 +1,142 @@
+package com.epam.instruction.message;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class PackedInstructionMessage {
+
+    public static final int INSTRUCTION_TYPES = 4;
+    public static final int PRODUCT_CODES = 26 * 26 * 100;
+    public static final int INVALID_INDEX = -1;
+
+    private static final char FIRST_INSTRUCTION_TYPE = 'A';
+    private static final int PRODUCT_CODE_LENGTH = 4;
+    private static final int MAX_UOM = 255;
+
+    private static final int QUANTITY_BITS = 31;
+    private static final int UOM_BITS = 8;
+    private static final int PRODUCT_CODE_BITS = 17;
+    private static final int UOM_SHIFT = QUANTITY_BITS;
+    private static final int PRODUCT_CODE_SHIFT = UOM_SHIFT + UOM_BITS;
+    private static final int INSTRUCTION_TYPE_SHIFT = PRODUCT_CODE_SHIFT + PRODUCT_CODE_BITS;
+    private static final long QUANTITY_MASK = (1L << QUANTITY_BITS) - 1;
+    private static final long UOM_MASK = (1L << UOM_BITS) - 1;
+    private static final long PRODUCT_CODE_MASK = (1L << PRODUCT_CODE_BITS) - 1;
+    private static final long INSTRUCTION_TYPE_MASK = 0b11;
+
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private static final String[] INSTRUCTION_TYPE_NAMES = {"A", "B", "C", "D"};
+    private static final AtomicReferenceArray<String> PRODUCT_CODE_NAMES = new AtomicReferenceArray<>(PRODUCT_CODES);
+
+    private PackedInstructionMessage() {
+    }
+
+    public static boolean isPackable(InstructionMessage message) {
+        return message != null
+                && message.getInstructionTypeIndex() != INVALID_INDEX
+                && message.getProductCodeIndex() != INVALID_INDEX
+                && message.getQuantity() > 0
+                && message.getUom() >= 0 && message.getUom() <= MAX_UOM
+                && message.getTimestamp() != null;
+    }
+
+    public static long packAttributes(InstructionMessage message) {
+        if (!isPackable(message)) {
+            throw new IllegalArgumentException("Instruction message can not be packed");
+        }
+        return (long) message.getInstructionTypeIndex() << INSTRUCTION_TYPE_SHIFT
+                | (long) message.getProductCodeIndex() << PRODUCT_CODE_SHIFT
+                | (long) message.getUom() << UOM_SHIFT
+                | message.getQuantity();
+    }
+
+    public static long packTimestamp(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * MILLIS_PER_SECOND + timestamp.getNano() / NANOS_PER_MILLI;
+    }
+
+    public static InstructionMessage unpack(long attributes, long timestamp) {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType(instructionType(instructionTypeIndex(attributes)));
+        message.setProductCode(productCode(productCodeIndex(attributes)));
+        message.setQuantity(quantity(attributes));
+        message.setUom(uom(attributes));
+        message.setTimestamp(unpackTimestamp(timestamp));
+        return message;
+    }
+
+    public static LocalDateTime unpackTimestamp(long timestamp) {
+        long epochSecond = Math.floorDiv(timestamp, MILLIS_PER_SECOND);
+        int nanos = (int) Math.floorMod(timestamp, MILLIS_PER_SECOND) * NANOS_PER_MILLI;
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+    }
+
+    public static int instructionTypeIndex(long attributes) {
+        return (int) (attributes >>> INSTRUCTION_TYPE_SHIFT & INSTRUCTION_TYPE_MASK);
+    }
+
+    public static int productCodeIndex(long attributes) {
+        return (int) (attributes >>> PRODUCT_CODE_SHIFT & PRODUCT_CODE_MASK);
+    }
+
+    public static int uom(long attributes) {
+        return (int) (attributes >>> UOM_SHIFT & UOM_MASK);
+    }
+
+    public static int quantity(long attributes) {
+        return (int) (attributes & QUANTITY_MASK);
+    }
+
+    public static int instructionTypeIndex(CharSequence instructionType) {
+        return instructionType == null ? INVALID_INDEX : instructionTypeIndex(instructionType, 0, instructionType.length());
+    }
+
+    public static int instructionTypeIndex(CharSequence text, int start, int end) {
+        if (end - start != 1) {
+            return INVALID_INDEX;
+        }
+        int index = text.charAt(start) - FIRST_INSTRUCTION_TYPE;
+        return index >= 0 && index < INSTRUCTION_TYPES ? index : INVALID_INDEX;
+    }
+
+    public static String instructionType(int index) {
+        return INSTRUCTION_TYPE_NAMES[index];
+    }
+
+    public static int productCodeIndex(CharSequence productCode) {
+        return productCode == null ? INVALID_INDEX : productCodeIndex(productCode, 0, productCode.length());
+    }
+
+    public static int productCodeIndex(CharSequence text, int start, int end) {
+        if (end - start != PRODUCT_CODE_LENGTH) {
+            return INVALID_INDEX;
+        }
+        int firstLetter = text.charAt(start) - 'A';
+        int secondLetter = text.charAt(start + 1) - 'A';
+        int firstDigit = text.charAt(start + 2) - '0';
+        int secondDigit = text.charAt(start + 3) - '0';
+        if (firstLetter < 0 || firstLetter > 25 || secondLetter < 0 || secondLetter > 25
+                || firstDigit < 0 || firstDigit > 9 || secondDigit < 0 || secondDigit > 9) {
+            return INVALID_INDEX;
+        }
+        return (firstLetter * 26 + secondLetter) * 100 + firstDigit * 10 + secondDigit;
+    }
+
+    public static String productCode(int index) {
+        String productCode = PRODUCT_CODE_NAMES.get(index);
+        if (productCode == null) {
+            char[] characters = {
+                    (char) ('A' + index / 2600),
+                    (char) ('A' + index / 100 % 26),
+                    (char) ('0' + index / 10 % 10),
+                    (char) ('0' + index % 10)
+            };
+            PRODUCT_CODE_NAMES.compareAndSet(index, null, new String(characters));
+            productCode = PRODUCT_CODE_NAMES.get(index);
+        }
+        return productCode;
+    }
+
+}
\ No newline at end of file
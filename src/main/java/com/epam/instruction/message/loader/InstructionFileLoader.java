@@ -0,0 +1,201 @@
+package com.epam.instruction.message.loader;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.MessageQueue;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class InstructionFileLoader {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private static final byte LINE_DELIMITER = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int BOUNDARY_SCAN_BUFFER_SIZE = 512;
+
+    private InstructionMessageParser parser;
+    private InstructionMessageValidator validator;
+    private MessageQueue queue;
+    private ForkJoinPool pool;
+    private int chunkSize;
+
+    public InstructionFileLoader(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue) {
+        this(parser, validator, queue, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public InstructionFileLoader(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue,
+                                 ForkJoinPool pool, int chunkSize) {
+        this.parser = parser;
+        this.validator = validator;
+        this.queue = queue;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public LoadReport load(Path file) throws IOException {
+        long startNanos = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<ForkJoinTask<ChunkResult>> chunks = new ArrayList<>();
+            long size = channel.size();
+            long chunkStart = 0;
+            while (chunkStart < size) {
+                long chunkEnd = lineAlignedChunkEnd(channel, chunkStart, size);
+                chunks.add(pool.submit(new ChunkTask(channel, chunkStart, chunkEnd)));
+                chunkStart = chunkEnd;
+            }
+            return merge(chunks, size, startNanos);
+        }
+    }
+
+    private long lineAlignedChunkEnd(FileChannel channel, long chunkStart, long size) throws IOException {
+        long position = Math.min(chunkStart + chunkSize, size);
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_SCAN_BUFFER_SIZE);
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            for (int index = 0; index < read; index++) {
+                if (buffer.get(index) == LINE_DELIMITER) {
+                    return position + index + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private LoadReport merge(List<ForkJoinTask<ChunkResult>> chunks, long bytes, long startNanos) {
+        long lines = 0;
+        List<InstructionMessage> acceptedMessages = new ArrayList<>();
+        long[] acceptedLines = new long[0];
+        List<LineRejection> rejections = new ArrayList<>();
+        for (ForkJoinTask<ChunkResult> chunk : chunks) {
+            ChunkResult result = chunk.join();
+            int acceptedCount = acceptedMessages.size();
+            acceptedMessages.addAll(result.acceptedMessages);
+            acceptedLines = Arrays.copyOf(acceptedLines, acceptedMessages.size());
+            for (int index = 0; index < result.acceptedMessages.size(); index++) {
+                acceptedLines[acceptedCount + index] = lines + result.acceptedLines[index];
+            }
+            for (int index = 0; index < result.rejectedCount; index++) {
+                rejections.add(new LineRejection(lines + result.rejectedLines[index], result.rejectedViolations[index]));
+            }
+            lines += result.lines;
+        }
+        long enqueuedMessages = acceptedMessages.size();
+        try {
+            queue.enqueueAll(acceptedMessages);
+        } catch (InstructionQueueOverflowException e) {
+            enqueuedMessages = 0;
+            for (long acceptedLine : acceptedLines) {
+                rejections.add(new LineRejection(acceptedLine, InstructionMessageViolations.QUEUE_REJECTED));
+            }
+            rejections.sort(Comparator.comparingLong(LineRejection::getLineNumber));
+        }
+        return new LoadReport(lines, enqueuedMessages, bytes, System.nanoTime() - startNanos, rejections);
+    }
+
+    private class ChunkTask extends RecursiveTask<ChunkResult> {
+
+        private FileChannel channel;
+        private long start;
+        private long end;
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ChunkResult result = new ChunkResult();
+            int length = buffer.limit();
+            int lineStart = 0;
+            for (int index = 0; index < length; index++) {
+                if (buffer.get(index) == LINE_DELIMITER) {
+                    receiveLine(buffer, lineStart, index, result);
+                    lineStart = index + 1;
+                }
+            }
+            if (lineStart < length) {
+                receiveLine(buffer, lineStart, length, result);
+            }
+            return result;
+        }
+
+        private void receiveLine(ByteBuffer buffer, int start, int end, ChunkResult result) {
+            result.lines++;
+            if (end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+            if (end == start) {
+                return;
+            }
+            InstructionMessage instructionMessage = new InstructionMessage();
+            int violations = parser.tryParse(buffer, start, end - start, instructionMessage);
+            if (violations == InstructionMessageViolations.NONE) {
+                violations = validator.check(instructionMessage);
+            }
+            if (violations == InstructionMessageViolations.NONE) {
+                result.accepted(result.lines, instructionMessage);
+            } else {
+                result.rejected(result.lines, violations);
+            }
+        }
+
+    }
+
+    private static class ChunkResult {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private List<InstructionMessage> acceptedMessages = new ArrayList<>();
+        private long[] acceptedLines = new long[INITIAL_CAPACITY];
+        private long lines;
+        private long[] rejectedLines = new long[INITIAL_CAPACITY];
+        private int[] rejectedViolations = new int[INITIAL_CAPACITY];
+        private int rejectedCount;
+
+        void accepted(long line, InstructionMessage message) {
+            if (acceptedMessages.size() == acceptedLines.length) {
+                acceptedLines = Arrays.copyOf(acceptedLines, acceptedLines.length * 2);
+            }
+            acceptedLines[acceptedMessages.size()] = line;
+            acceptedMessages.add(message);
+        }
+
+        void rejected(long line, int violations) {
+            if (rejectedCount == rejectedLines.length) {
+                rejectedLines = Arrays.copyOf(rejectedLines, rejectedCount * 2);
+                rejectedViolations = Arrays.copyOf(rejectedViolations, rejectedCount * 2);
+            }
+            rejectedLines[rejectedCount] = line;
+            rejectedViolations[rejectedCount++] = violations;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.epam.instruction.message.loader;
+
+import com.epam.instruction.message.support.InstructionMessageViolations;
+
+public class LineRejection {
+
+    private long lineNumber;
+    private int violations;
+
+    LineRejection(long lineNumber, int violations) {
+        this.lineNumber = lineNumber;
+        this.violations = violations;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getViolations() {
+        return violations;
+    }
+
+    public String getReason() {
+        return InstructionMessageViolations.describe(violations).trim();
+    }
+
+}
\ No newline at end of file
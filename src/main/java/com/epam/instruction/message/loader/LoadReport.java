@@ -0,0 +1,55 @@
+package com.epam.instruction.message.loader;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class LoadReport {
+
+    private long lines;
+    private long acceptedMessages;
+    private long bytes;
+    private long elapsedNanos;
+    private List<LineRejection> rejections;
+
+    LoadReport(long lines, long acceptedMessages, long bytes, long elapsedNanos, List<LineRejection> rejections) {
+        this.lines = lines;
+        this.acceptedMessages = acceptedMessages;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+        this.rejections = Collections.unmodifiableList(rejections);
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getAcceptedMessages() {
+        return acceptedMessages;
+    }
+
+    public long getRejectedMessages() {
+        return rejections.size();
+    }
+
+    public List<LineRejection> getRejections() {
+        return rejections;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getLinesPerSecond() {
+        return perSecond(lines);
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long amount) {
+        return elapsedNanos == 0 ? 0 : amount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.epam.instruction.message.metrics;
+
+public class HistogramSnapshot {
+
+    private static final double PERCENT = 100.0;
+
+    private long[] counts;
+    private long count;
+    private long min;
+    private long max;
+    private long sum;
+
+    HistogramSnapshot(long[] counts, long min, long max, long sum) {
+        this.counts = counts;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * count));
+        long cumulativeCount = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            cumulativeCount += counts[bucket];
+            if (cumulativeCount >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+}
\ No newline at end of file
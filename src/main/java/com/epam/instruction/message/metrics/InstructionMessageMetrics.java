@@ -0,0 +1,137 @@
+package com.epam.instruction.message.metrics;
+
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InstructionMessageMetrics implements InstructionMessageMetricsMXBean {
+
+    private static final String MBEAN_NAME_PREFIX = "com.epam.instruction.message:type=InstructionMessageMetrics,name=";
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+    private static final String[] VIOLATIONS = {"EMPTY_MESSAGE", "ARGUMENTS_NUMBER", "MESSAGE_HEADER", "QUANTITY_FORMAT",
+            "UOM_FORMAT", "TIMESTAMP_FORMAT", "INSTRUCTION_MESSAGE_NULL", "INSTRUCTION_TYPE", "PRODUCT_CODE", "QUANTITY", "UOM",
+            "TIMESTAMP", "QUEUE_REJECTED"};
+
+    private LatencyHistogram parseLatency = new LatencyHistogram();
+    private LatencyHistogram validateLatency = new LatencyHistogram();
+    private LatencyHistogram enqueueLatency = new LatencyHistogram();
+    private LatencyHistogram[] residenceLatency = new LatencyHistogram[PackedInstructionMessage.INSTRUCTION_TYPES];
+    private LongAdder[] rejections = new LongAdder[VIOLATIONS.length];
+    private LongAdder[] queueDepths = new LongAdder[PRIORITIES.length];
+
+    public InstructionMessageMetrics() {
+        for (int type = 0; type < residenceLatency.length; type++) {
+            residenceLatency[type] = new LatencyHistogram();
+        }
+        for (int violation = 0; violation < rejections.length; violation++) {
+            rejections[violation] = new LongAdder();
+        }
+        for (int priority = 0; priority < queueDepths.length; priority++) {
+            queueDepths[priority] = new LongAdder();
+        }
+    }
+
+    public void recordParseLatency(long nanos) {
+        parseLatency.record(nanos);
+    }
+
+    public void recordValidateLatency(long nanos) {
+        validateLatency.record(nanos);
+    }
+
+    public void recordEnqueueLatency(long nanos, int messages) {
+        if (messages > 0) {
+            enqueueLatency.record(nanos / messages, messages);
+        }
+    }
+
+    public void recordRejection(int violations) {
+        int remaining = violations;
+        while (remaining != 0) {
+            int violation = Integer.numberOfTrailingZeros(remaining);
+            if (violation < rejections.length) {
+                rejections[violation].increment();
+            }
+            remaining &= remaining - 1;
+        }
+    }
+
+    public void recordEnqueued(int priority, int messages) {
+        queueDepths[priority].add(messages);
+    }
+
+    public void recordDequeued(int priority, String instructionType, long residenceNanos) {
+        queueDepths[priority].decrement();
+        int type = PackedInstructionMessage.instructionTypeIndex(instructionType);
+        if (type != PackedInstructionMessage.INVALID_INDEX) {
+            residenceLatency[type].record(residenceNanos);
+        }
+    }
+
+    public void recordRemoved(int priority) {
+        queueDepths[priority].decrement();
+    }
+
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(getParseLatency(), getValidateLatency(), getEnqueueLatency(), getResidenceLatency(),
+                getRejections(), getQueueDepths());
+    }
+
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName objectName = new ObjectName(MBEAN_NAME_PREFIX + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register metrics MBean " + name, e);
+        }
+    }
+
+    @Override
+    public HistogramSnapshot getParseLatency() {
+        return parseLatency.snapshot();
+    }
+
+    @Override
+    public HistogramSnapshot getValidateLatency() {
+        return validateLatency.snapshot();
+    }
+
+    @Override
+    public HistogramSnapshot getEnqueueLatency() {
+        return enqueueLatency.snapshot();
+    }
+
+    @Override
+    public Map<String, HistogramSnapshot> getResidenceLatency() {
+        Map<String, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        for (int type = 0; type < residenceLatency.length; type++) {
+            snapshots.put(PackedInstructionMessage.instructionType(type), residenceLatency[type].snapshot());
+        }
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (int violation = 0; violation < rejections.length; violation++) {
+            counts.put(VIOLATIONS[violation], rejections[violation].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getQueueDepths() {
+        Map<String, Long> depths = new LinkedHashMap<>();
+        for (int priority = 0; priority < queueDepths.length; priority++) {
+            depths.put(PRIORITIES[priority], queueDepths[priority].sum());
+        }
+        return depths;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.epam.instruction.message.metrics;
+
+import java.util.Map;
+
+public interface InstructionMessageMetricsMXBean {
+
+    HistogramSnapshot getParseLatency();
+
+    HistogramSnapshot getValidateLatency();
+
+    HistogramSnapshot getEnqueueLatency();
+
+    Map<String, HistogramSnapshot> getResidenceLatency();
+
+    Map<String, Long> getRejections();
+
+    Map<String, Long> getQueueDepths();
+
+}
\ No newline at end of file
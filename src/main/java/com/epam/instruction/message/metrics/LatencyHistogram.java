@@ -0,0 +1,63 @@
+package com.epam.instruction.message.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int VALUE_BITS = 43;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << VALUE_BITS) - 1;
+    private static final int BUCKETS = SUB_BUCKET_COUNT + (VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private LongAdder[] counts = new LongAdder[BUCKETS];
+    private LongAdder sum = new LongAdder();
+    private LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    public void record(long value, long count) {
+        long trackedValue = Math.max(0, Math.min(value, HIGHEST_TRACKABLE_VALUE));
+        counts[bucketOf(trackedValue)].add(count);
+        sum.add(trackedValue * count);
+        min.accumulate(trackedValue);
+        max.accumulate(trackedValue);
+    }
+
+    public HistogramSnapshot snapshot() {
+        long[] snapshotCounts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshotCounts[bucket] = counts[bucket].sum();
+        }
+        return new HistogramSnapshot(snapshotCounts, min.get(), max.get(), sum.sum());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift) - SUB_BUCKET_HALF_COUNT;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
\ No newline at end of file
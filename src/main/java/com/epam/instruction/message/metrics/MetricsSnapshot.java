@@ -0,0 +1,48 @@
+package com.epam.instruction.message.metrics;
+
+import java.util.Map;
+
+public class MetricsSnapshot {
+
+    private HistogramSnapshot parseLatency;
+    private HistogramSnapshot validateLatency;
+    private HistogramSnapshot enqueueLatency;
+    private Map<String, HistogramSnapshot> residenceLatency;
+    private Map<String, Long> rejections;
+    private Map<String, Long> queueDepths;
+
+    MetricsSnapshot(HistogramSnapshot parseLatency, HistogramSnapshot validateLatency, HistogramSnapshot enqueueLatency,
+                    Map<String, HistogramSnapshot> residenceLatency, Map<String, Long> rejections, Map<String, Long> queueDepths) {
+        this.parseLatency = parseLatency;
+        this.validateLatency = validateLatency;
+        this.enqueueLatency = enqueueLatency;
+        this.residenceLatency = residenceLatency;
+        this.rejections = rejections;
+        this.queueDepths = queueDepths;
+    }
+
+    public HistogramSnapshot getParseLatency() {
+        return parseLatency;
+    }
+
+    public HistogramSnapshot getValidateLatency() {
+        return validateLatency;
+    }
+
+    public HistogramSnapshot getEnqueueLatency() {
+        return enqueueLatency;
+    }
+
+    public Map<String, HistogramSnapshot> getResidenceLatency() {
+        return residenceLatency;
+    }
+
+    public Map<String, Long> getRejections() {
+        return rejections;
+    }
+
+    public Map<String, Long> getQueueDepths() {
+        return queueDepths;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.MessageQueue;
+import com.epam.instruction.message.support.InstructionMessageCodec;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryMessageReceiver {
+
+    private InstructionMessageCodec codec;
+    private InstructionMessageValidator validator;
+    private MessageQueue queue;
+
+    public BinaryMessageReceiver(InstructionMessageCodec codec, InstructionMessageValidator validator, MessageQueue queue) {
+        this.codec = codec;
+        this.validator = validator;
+        this.queue = queue;
+    }
+
+    public void receive(ByteBuffer frame) {
+        InstructionMessage instructionMessage = codec.decode(frame, frame.position());
+        validator.validate(instructionMessage);
+        frame.position(frame.position() + InstructionMessageCodec.RECORD_SIZE);
+        queue.enqueue(instructionMessage);
+    }
+
+    public int tryReceive(ByteBuffer frames, int offset) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = decodeAndCheck(frames, offset, instructionMessage);
+        if (violations == InstructionMessageViolations.NONE) {
+            try {
+                queue.enqueue(instructionMessage);
+            } catch (InstructionQueueOverflowException e) {
+                violations = InstructionMessageViolations.QUEUE_REJECTED;
+            }
+        }
+        return violations;
+    }
+
+    public ReceiveReport receiveAll(ByteBuffer frames) {
+        int length = frames.remaining();
+        if (length % InstructionMessageCodec.RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Binary frames must be a multiple of " + InstructionMessageCodec.RECORD_SIZE
+                    + " bytes but got " + length);
+        }
+        int numberOfFrames = length / InstructionMessageCodec.RECORD_SIZE;
+        ReceiveReport report = new ReceiveReport();
+        List<InstructionMessage> acceptedMessages = new ArrayList<>(numberOfFrames);
+        for (int index = 0; index < numberOfFrames; index++) {
+            InstructionMessage instructionMessage = new InstructionMessage();
+            int violations = decodeAndCheck(frames, frames.position() + index * InstructionMessageCodec.RECORD_SIZE, instructionMessage);
+            if (violations == InstructionMessageViolations.NONE) {
+                acceptedMessages.add(instructionMessage);
+                report.accepted(index);
+            } else {
+                report.rejected(index, violations);
+            }
+        }
+        frames.position(frames.limit());
+        try {
+            queue.enqueueAll(acceptedMessages);
+        } catch (InstructionQueueOverflowException e) {
+            report.rejectAccepted(InstructionMessageViolations.QUEUE_REJECTED);
+        }
+        return report;
+    }
+
+    private int decodeAndCheck(ByteBuffer frames, int offset, InstructionMessage instructionMessage) {
+        int violations = codec.tryDecode(frames, offset, instructionMessage);
+        if (violations == InstructionMessageViolations.NONE) {
+            violations = validator.check(instructionMessage);
+        }
+        return violations;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+import com.epam.instruction.message.support.EpochClock;
+import com.epam.instruction.message.support.SystemEpochClock;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class DuplicateMessageFilter {
+
+    private static final int SEGMENTS = 16;
+    private static final long EMPTY_SLOT = 0;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long MIX_MULTIPLIER_1 = 0xFF51AFD7ED558CCDL;
+    private static final long MIX_MULTIPLIER_2 = 0xC4CEB9FE1A85EC53L;
+
+    private Segment[] segments = new Segment[SEGMENTS];
+    private long windowMillis;
+    private EpochClock clock;
+    private LongAdder hits = new LongAdder();
+    private LongAdder misses = new LongAdder();
+
+    public DuplicateMessageFilter(int capacity, long windowMillis) {
+        this(capacity, windowMillis, new SystemEpochClock());
+    }
+
+    public DuplicateMessageFilter(int capacity, long windowMillis, EpochClock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        int segmentCapacity = (capacity + SEGMENTS - 1) / SEGMENTS;
+        for (int segment = 0; segment < SEGMENTS; segment++) {
+            segments[segment] = new Segment(segmentCapacity);
+        }
+    }
+
+    public boolean isDuplicate(InstructionMessage message) {
+        if (!PackedInstructionMessage.isPackable(message)) {
+            misses.increment();
+            return false;
+        }
+        long fingerprint = fingerprint(message);
+        boolean duplicate = segmentOf(fingerprint).seen(fingerprint, clock.currentTimeMillis(), windowMillis);
+        if (duplicate) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return duplicate;
+    }
+
+    public void forget(InstructionMessage message) {
+        if (PackedInstructionMessage.isPackable(message)) {
+            long fingerprint = fingerprint(message);
+            segmentOf(fingerprint).forget(fingerprint);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long fingerprint) {
+        return segments[(int) (fingerprint >>> (Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS)))];
+    }
+
+    private static long fingerprint(InstructionMessage message) {
+        return fingerprint(PackedInstructionMessage.packAttributes(message), PackedInstructionMessage.packTimestamp(message.getTimestamp()));
+    }
+
+    static long fingerprint(long attributes, long timestamp) {
+        long hash = attributes * GOLDEN_RATIO ^ timestamp;
+        hash ^= hash >>> 33;
+        hash *= MIX_MULTIPLIER_1;
+        hash ^= hash >>> 33;
+        hash *= MIX_MULTIPLIER_2;
+        hash ^= hash >>> 33;
+        return hash == EMPTY_SLOT ? 1 : hash;
+    }
+
+    private static class Segment {
+
+        private long[] table;
+        private int tableMask;
+        private long[] fingerprints;
+        private long[] seenAt;
+        private int head;
+        private int size;
+        private int forgotten;
+
+        Segment(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+            this.table = new long[tableSize];
+            this.tableMask = tableSize - 1;
+            this.fingerprints = new long[capacity];
+            this.seenAt = new long[capacity];
+        }
+
+        synchronized int size() {
+            return size - forgotten;
+        }
+
+        synchronized boolean seen(long fingerprint, long now, long windowMillis) {
+            while (size > 0 && now - seenAt[head] >= windowMillis) {
+                evictOldest();
+            }
+            if (table[find(fingerprint)] == fingerprint) {
+                return true;
+            }
+            if (size == fingerprints.length) {
+                evictOldest();
+            }
+            table[find(fingerprint)] = fingerprint;
+            int tail = (head + size) % fingerprints.length;
+            fingerprints[tail] = fingerprint;
+            seenAt[tail] = now;
+            size++;
+            return false;
+        }
+
+        synchronized void forget(long fingerprint) {
+            if (table[find(fingerprint)] != fingerprint) {
+                return;
+            }
+            remove(fingerprint);
+            for (int age = size - 1; age >= 0; age--) {
+                int index = (head + age) % fingerprints.length;
+                if (fingerprints[index] == fingerprint) {
+                    fingerprints[index] = EMPTY_SLOT;
+                    forgotten++;
+                    return;
+                }
+            }
+        }
+
+        private int find(long fingerprint) {
+            int slot = home(fingerprint);
+            while (table[slot] != EMPTY_SLOT && table[slot] != fingerprint) {
+                slot = (slot + 1) & tableMask;
+            }
+            return slot;
+        }
+
+        private int home(long fingerprint) {
+            return (int) fingerprint & tableMask;
+        }
+
+        private void evictOldest() {
+            if (fingerprints[head] == EMPTY_SLOT) {
+                forgotten--;
+            } else {
+                remove(fingerprints[head]);
+            }
+            head = (head + 1) % fingerprints.length;
+            size--;
+        }
+
+        private void remove(long fingerprint) {
+            int free = find(fingerprint);
+            table[free] = EMPTY_SLOT;
+            int slot = (free + 1) & tableMask;
+            while (table[slot] != EMPTY_SLOT) {
+                int home = home(table[slot]);
+                if (((slot - home) & tableMask) >= ((slot - free) & tableMask)) {
+                    table[free] = table[slot];
+                    table[slot] = EMPTY_SLOT;
+                    free = slot;
+                }
+                slot = (slot + 1) & tableMask;
+            }
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -1,31 +1,200 @@
 package com.epam.instruction.message.receiver;
 
 import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.metrics.InstructionMessageMetrics;
 import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.MessageQueue;
 import com.epam.instruction.message.support.InstructionMessageParser;
 import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import com.epam.instruction.message.support.exceptions.InstructionMessageValidationException;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 public class InstructionMessageReceiver implements MessageReceiver {
 
     private InstructionMessageParser parser;
     private InstructionMessageValidator validator;
-    private InstructionQueue queue;
+    private MessageQueue queue;
+    private InstructionMessageMetrics metrics;
+    private DuplicateMessageFilter duplicateFilter;
 
     public InstructionMessageReceiver() {
         this(new InstructionMessageParser(), new InstructionMessageValidator(), new InstructionQueue());
     }
 
-    public InstructionMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, InstructionQueue queue) {
+    public InstructionMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue) {
+        this(parser, validator, queue, null);
+    }
+
+    public InstructionMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue,
+                                      InstructionMessageMetrics metrics) {
+        this(parser, validator, queue, metrics, null);
+    }
+
+    public InstructionMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue,
+                                      InstructionMessageMetrics metrics, DuplicateMessageFilter duplicateFilter) {
         this.parser = parser;
         this.validator = validator;
         this.queue = queue;
+        this.metrics = metrics;
+        this.duplicateFilter = duplicateFilter;
     }
 
     @Override
     public void receive(String message) {
-        InstructionMessage instructionMessage = parser.parse(message);
-        validator.validate(instructionMessage);
-        queue.enqueue(instructionMessage);
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = parseAndCheck(message, instructionMessage);
+        if ((violations & InstructionMessageViolations.PARSING_VIOLATIONS) != 0) {
+            throw InstructionMessageParser.parsingFailure(message, violations);
+        }
+        if (violations != InstructionMessageViolations.NONE) {
+            throw new InstructionMessageValidationException(InstructionMessageViolations.describe(violations));
+        }
+        enqueue(instructionMessage);
+    }
+
+    @Override
+    public int tryReceive(String message) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = parseAndCheck(message, instructionMessage);
+        if (violations == InstructionMessageViolations.NONE) {
+            violations = tryEnqueue(instructionMessage);
+        }
+        return violations;
+    }
+
+    public int tryReceive(ByteBuffer message, int offset, int length) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        int violations = check(instructionMessage, parser.tryParse(message, offset, length, instructionMessage), startNanos);
+        if (violations == InstructionMessageViolations.NONE) {
+            violations = tryEnqueue(instructionMessage);
+        }
+        return violations;
+    }
+
+    @Override
+    public ReceiveReport receiveAll(Iterable<String> messages) {
+        ReceiveReport report = new ReceiveReport();
+        List<InstructionMessage> acceptedMessages = new ArrayList<>();
+        int index = 0;
+        for (String message : messages) {
+            accept(message, index++, acceptedMessages, report);
+        }
+        enqueueAll(acceptedMessages, report);
+        return report;
+    }
+
+    @Override
+    public ReceiveReport receiveAll(String[] messages, int offset, int length) {
+        ReceiveReport report = new ReceiveReport();
+        List<InstructionMessage> acceptedMessages = new ArrayList<>(length);
+        for (int index = 0; index < length; index++) {
+            accept(messages[offset + index], index, acceptedMessages, report);
+        }
+        enqueueAll(acceptedMessages, report);
+        return report;
+    }
+
+    private void accept(String message, int index, List<InstructionMessage> acceptedMessages, ReceiveReport report) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = parseAndCheck(message, instructionMessage);
+        if (violations == InstructionMessageViolations.NONE) {
+            if (!isDuplicate(instructionMessage)) {
+                acceptedMessages.add(instructionMessage);
+            }
+            report.accepted(index);
+        } else {
+            report.rejected(index, violations);
+        }
+    }
+
+    private int parseAndCheck(String message, InstructionMessage instructionMessage) {
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        return check(instructionMessage, parser.tryParse(message, instructionMessage), startNanos);
+    }
+
+    private int check(InstructionMessage instructionMessage, int parseViolations, long parseStartNanos) {
+        if (metrics == null) {
+            return parseViolations == InstructionMessageViolations.NONE ? validator.check(instructionMessage) : parseViolations;
+        }
+        long parsedNanos = System.nanoTime();
+        metrics.recordParseLatency(parsedNanos - parseStartNanos);
+        int violations = parseViolations;
+        if (violations == InstructionMessageViolations.NONE) {
+            violations = validator.check(instructionMessage);
+            metrics.recordValidateLatency(System.nanoTime() - parsedNanos);
+        }
+        metrics.recordRejection(violations);
+        return violations;
+    }
+
+    private boolean isDuplicate(InstructionMessage instructionMessage) {
+        return duplicateFilter != null && duplicateFilter.isDuplicate(instructionMessage);
+    }
+
+    private void forget(InstructionMessage instructionMessage) {
+        if (duplicateFilter != null) {
+            duplicateFilter.forget(instructionMessage);
+        }
+    }
+
+    private void forgetAll(List<InstructionMessage> instructionMessages) {
+        for (InstructionMessage instructionMessage : instructionMessages) {
+            forget(instructionMessage);
+        }
+    }
+
+    private void enqueue(InstructionMessage instructionMessage) {
+        if (isDuplicate(instructionMessage)) {
+            return;
+        }
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        try {
+            queue.enqueue(instructionMessage);
+        } catch (RuntimeException e) {
+            forget(instructionMessage);
+            throw e;
+        }
+        if (metrics != null) {
+            metrics.recordEnqueueLatency(System.nanoTime() - startNanos, 1);
+        }
+    }
+
+    private int tryEnqueue(InstructionMessage instructionMessage) {
+        try {
+            enqueue(instructionMessage);
+            return InstructionMessageViolations.NONE;
+        } catch (InstructionQueueOverflowException e) {
+            if (metrics != null) {
+                metrics.recordRejection(InstructionMessageViolations.QUEUE_REJECTED);
+            }
+            return InstructionMessageViolations.QUEUE_REJECTED;
+        }
+    }
+
+    private void enqueueAll(List<InstructionMessage> instructionMessages, ReceiveReport report) {
+        long startNanos = metrics == null ? 0 : System.nanoTime();
+        try {
+            queue.enqueueAll(instructionMessages);
+        } catch (InstructionQueueOverflowException e) {
+            forgetAll(instructionMessages);
+            report.rejectAccepted(InstructionMessageViolations.QUEUE_REJECTED);
+            if (metrics != null) {
+                metrics.recordRejection(InstructionMessageViolations.QUEUE_REJECTED);
+            }
+            return;
+        } catch (RuntimeException e) {
+            forgetAll(instructionMessages);
+            throw e;
+        }
+        if (metrics != null) {
+            metrics.recordEnqueueLatency(System.nanoTime() - startNanos, instructionMessages.size());
+        }
     }
 
 }
\ No newline at end of file
@@ -4,4 +4,10 @@ public interface MessageReceiver {
 
     void receive(String message);
 
+    int tryReceive(String message);
+
+    ReceiveReport receiveAll(Iterable<String> messages);
+
+    ReceiveReport receiveAll(String[] messages, int offset, int length);
+
 }
\ No newline at end of file
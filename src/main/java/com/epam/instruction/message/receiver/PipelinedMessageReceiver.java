@@ -0,0 +1,262 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.MessageQueue;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+public class PipelinedMessageReceiver implements Closeable {
+
+    public static final int DEFAULT_RING_SIZE = 8192;
+
+    private static final long UNUSED_SLOT = -1;
+    private static final int SPINS_BEFORE_YIELD = 100;
+    private static final int YIELDS_BEFORE_PARK = 200;
+    private static final long IDLE_PARK_NANOS = 50_000;
+    private static final String THREAD_NAME_PREFIX = "instruction-message-pipeline-";
+
+    private InstructionMessageParser parser;
+    private InstructionMessageValidator validator;
+    private MessageQueue queue;
+    private RejectionListener rejectionListener;
+    private int mask;
+
+    private String[] messages;
+    private InstructionMessage[] instructionMessages;
+    private int[] violations;
+    private AtomicLongArray submittedSequences;
+    private AtomicLongArray processedSequences;
+
+    private AtomicLong nextSubmitSequence = new AtomicLong();
+    private AtomicLong nextWorkSequence = new AtomicLong();
+    private AtomicLong sequencedCount = new AtomicLong();
+    private AtomicInteger activeSubmitters = new AtomicInteger();
+    private volatile long acceptedMessages;
+    private volatile long rejectedMessages;
+    private volatile long listenerFailures;
+
+    private Thread[] workerThreads;
+    private Thread sequencerThread;
+    private volatile boolean running;
+    private volatile boolean closed;
+
+    public PipelinedMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue,
+                                    int workers) {
+        this(parser, validator, queue, workers, DEFAULT_RING_SIZE, (sequence, message, violations) -> {
+        });
+    }
+
+    public PipelinedMessageReceiver(InstructionMessageParser parser, InstructionMessageValidator validator, MessageQueue queue,
+                                    int workers, int ringSize, RejectionListener rejectionListener) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        if (ringSize < 1 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two: " + ringSize);
+        }
+        this.parser = parser;
+        this.validator = validator;
+        this.queue = queue;
+        this.rejectionListener = rejectionListener;
+        this.mask = ringSize - 1;
+        this.messages = new String[ringSize];
+        this.instructionMessages = new InstructionMessage[ringSize];
+        this.violations = new int[ringSize];
+        this.submittedSequences = new AtomicLongArray(ringSize);
+        this.processedSequences = new AtomicLongArray(ringSize);
+        for (int slot = 0; slot < ringSize; slot++) {
+            submittedSequences.set(slot, UNUSED_SLOT);
+            processedSequences.set(slot, UNUSED_SLOT);
+        }
+        this.workerThreads = new Thread[workers];
+    }
+
+    public void start() {
+        running = true;
+        for (int index = 0; index < workerThreads.length; index++) {
+            workerThreads[index] = startThread(this::processMessages, "worker-" + index);
+        }
+        sequencerThread = startThread(this::sequenceMessages, "sequencer");
+    }
+
+    public long submit(String message) {
+        activeSubmitters.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Receiver is closed");
+            }
+            long sequence = claimSequence();
+            int slot = slot(sequence);
+            messages[slot] = message;
+            submittedSequences.lazySet(slot, sequence);
+            return sequence;
+        } finally {
+            activeSubmitters.decrementAndGet();
+        }
+    }
+
+    public void flush() {
+        int idleCount = 0;
+        while (sequencedCount.get() < nextSubmitSequence.get()) {
+            idleCount = idle(idleCount);
+        }
+    }
+
+    public int getRingSize() {
+        return mask + 1;
+    }
+
+    public int getWorkers() {
+        return workerThreads.length;
+    }
+
+    public long getSubmittedMessages() {
+        return nextSubmitSequence.get();
+    }
+
+    public long getAcceptedMessages() {
+        return acceptedMessages;
+    }
+
+    public long getRejectedMessages() {
+        return rejectedMessages;
+    }
+
+    public long getListenerFailures() {
+        return listenerFailures;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        int idleCount = 0;
+        while (activeSubmitters.get() > 0) {
+            idleCount = idle(idleCount);
+        }
+        if (running) {
+            flush();
+        }
+        running = false;
+        try {
+            for (Thread workerThread : workerThreads) {
+                if (workerThread != null) {
+                    workerThread.join();
+                }
+            }
+            if (sequencerThread != null) {
+                sequencerThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long claimSequence() {
+        int idleCount = 0;
+        while (true) {
+            long sequence = nextSubmitSequence.get();
+            if (sequence - sequencedCount.get() > mask) {
+                idleCount = idle(idleCount);
+            } else if (nextSubmitSequence.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void processMessages() {
+        while (true) {
+            long sequence = nextWorkSequence.getAndIncrement();
+            int slot = slot(sequence);
+            int idleCount = 0;
+            while (submittedSequences.get(slot) != sequence) {
+                if (!running) {
+                    return;
+                }
+                idleCount = idle(idleCount);
+            }
+            InstructionMessage instructionMessage = new InstructionMessage();
+            int messageViolations = parser.tryParse(messages[slot], instructionMessage);
+            if (messageViolations == InstructionMessageViolations.NONE) {
+                messageViolations = validator.check(instructionMessage);
+            }
+            instructionMessages[slot] = instructionMessage;
+            violations[slot] = messageViolations;
+            processedSequences.lazySet(slot, sequence);
+        }
+    }
+
+    private void sequenceMessages() {
+        long sequence = 0;
+        while (true) {
+            int slot = slot(sequence);
+            int idleCount = 0;
+            while (processedSequences.get(slot) != sequence) {
+                if (!running) {
+                    return;
+                }
+                idleCount = idle(idleCount);
+            }
+            int messageViolations = violations[slot];
+            if (messageViolations == InstructionMessageViolations.NONE) {
+                messageViolations = enqueue(instructionMessages[slot]);
+            }
+            if (messageViolations == InstructionMessageViolations.NONE) {
+                acceptedMessages++;
+            } else {
+                rejectedMessages++;
+                notifyRejected(sequence, messages[slot], messageViolations);
+            }
+            messages[slot] = null;
+            instructionMessages[slot] = null;
+            sequencedCount.set(++sequence);
+        }
+    }
+
+    private int enqueue(InstructionMessage instructionMessage) {
+        try {
+            queue.enqueue(instructionMessage);
+            return InstructionMessageViolations.NONE;
+        } catch (RuntimeException e) {
+            return InstructionMessageViolations.QUEUE_REJECTED;
+        }
+    }
+
+    private void notifyRejected(long sequence, String message, int messageViolations) {
+        try {
+            rejectionListener.rejected(sequence, message, messageViolations);
+        } catch (RuntimeException e) {
+            listenerFailures++;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private static int idle(int idleCount) {
+        if (idleCount < SPINS_BEFORE_YIELD) {
+            return idleCount + 1;
+        }
+        if (idleCount < SPINS_BEFORE_YIELD + YIELDS_BEFORE_PARK) {
+            Thread.yield();
+            return idleCount + 1;
+        }
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+        return idleCount;
+    }
+
+    private Thread startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, THREAD_NAME_PREFIX + name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+}
\ No newline at end of file
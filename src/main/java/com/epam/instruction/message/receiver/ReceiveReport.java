@@ -0,0 +1,71 @@
+package com.epam.instruction.message.receiver;
+
+import java.util.Arrays;
+
+public class ReceiveReport {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] acceptedIndices = new int[INITIAL_CAPACITY];
+    private int acceptedCount;
+    private int[] rejectedIndices = new int[INITIAL_CAPACITY];
+    private int[] rejectedViolations = new int[INITIAL_CAPACITY];
+    private int rejectedCount;
+
+    void accepted(int index) {
+        acceptedIndices = ensureCapacity(acceptedIndices, acceptedCount);
+        acceptedIndices[acceptedCount++] = index;
+    }
+
+    void rejected(int index, int violations) {
+        rejectedIndices = ensureCapacity(rejectedIndices, rejectedCount);
+        rejectedViolations = ensureCapacity(rejectedViolations, rejectedCount);
+        rejectedIndices[rejectedCount] = index;
+        rejectedViolations[rejectedCount++] = violations;
+    }
+
+    void rejectAccepted(int violations) {
+        int[] mergedIndices = new int[acceptedCount + rejectedCount];
+        int[] mergedViolations = new int[mergedIndices.length];
+        int accepted = 0;
+        int rejected = 0;
+        for (int merged = 0; merged < mergedIndices.length; merged++) {
+            if (rejected == rejectedCount || accepted < acceptedCount && acceptedIndices[accepted] < rejectedIndices[rejected]) {
+                mergedIndices[merged] = acceptedIndices[accepted++];
+                mergedViolations[merged] = violations;
+            } else {
+                mergedIndices[merged] = rejectedIndices[rejected];
+                mergedViolations[merged] = rejectedViolations[rejected++];
+            }
+        }
+        rejectedIndices = mergedIndices;
+        rejectedViolations = mergedViolations;
+        rejectedCount = mergedIndices.length;
+        acceptedCount = 0;
+    }
+
+    public int getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public int[] getAcceptedIndices() {
+        return Arrays.copyOf(acceptedIndices, acceptedCount);
+    }
+
+    public int[] getRejectedIndices() {
+        return Arrays.copyOf(rejectedIndices, rejectedCount);
+    }
+
+    public int[] getRejectedViolations() {
+        return Arrays.copyOf(rejectedViolations, rejectedCount);
+    }
+
+    private static int[] ensureCapacity(int[] indices, int size) {
+        return size < indices.length ? indices : Arrays.copyOf(indices, Math.max(INITIAL_CAPACITY, indices.length * 2));
+    }
+
+}
\ No newline at end of file
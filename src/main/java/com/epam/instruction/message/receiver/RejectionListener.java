@@ -0,0 +1,7 @@
+package com.epam.instruction.message.receiver;
+
+public interface RejectionListener {
+
+    void rejected(long sequence, String message, int violations);
+
+}
\ No newline at end of file
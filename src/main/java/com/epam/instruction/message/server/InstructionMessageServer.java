@@ -0,0 +1,319 @@
+package com.epam.instruction.message.server;
+
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.storage.MessageQueue;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InstructionMessageServer implements Closeable {
+
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final long PAUSED_CONNECTIONS_CHECK_INTERVAL_MILLIS = 10;
+    private static final byte LINE_DELIMITER = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final String THREAD_NAME_PREFIX = "instruction-message-server-";
+
+    private InstructionMessageReceiver receiver;
+    private MessageQueue queue;
+    private int maxQueueDepth;
+    private ServerSocketChannel serverChannel;
+    private SelectorLoop[] selectorLoops;
+    private Thread acceptorThread;
+    private volatile boolean running;
+
+    private LongAdder acceptedMessages = new LongAdder();
+    private LongAdder rejectedMessages = new LongAdder();
+    private AtomicInteger openConnections = new AtomicInteger();
+
+    public InstructionMessageServer(InstructionMessageReceiver receiver, MessageQueue queue, InetSocketAddress address,
+                                    int selectorThreads, int maxQueueDepth) throws IOException {
+        if (selectorThreads < 1) {
+            throw new IllegalArgumentException("At least one selector thread is required");
+        }
+        this.receiver = receiver;
+        this.queue = queue;
+        this.maxQueueDepth = maxQueueDepth;
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(address, ACCEPT_BACKLOG);
+        this.selectorLoops = new SelectorLoop[selectorThreads];
+        for (int index = 0; index < selectorThreads; index++) {
+            selectorLoops[index] = new SelectorLoop();
+        }
+    }
+
+    public void start() {
+        running = true;
+        for (int index = 0; index < selectorLoops.length; index++) {
+            selectorLoops[index].thread = startThread(selectorLoops[index], "selector-" + index);
+        }
+        acceptorThread = startThread(this::acceptConnections, "acceptor");
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public long getAcceptedMessages() {
+        return acceptedMessages.sum();
+    }
+
+    public long getRejectedMessages() {
+        return rejectedMessages.sum();
+    }
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverChannel.close();
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            selectorLoop.selector.wakeup();
+        }
+        try {
+            if (acceptorThread != null) {
+                acceptorThread.join();
+            }
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                if (selectorLoop.thread != null) {
+                    selectorLoop.thread.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Thread startThread(Runnable task, String name) {
+        Thread thread = new Thread(task, THREAD_NAME_PREFIX + name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void acceptConnections() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                openConnections.incrementAndGet();
+                selectorLoops[next++ % selectorLoops.length].register(channel);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isSaturated() {
+        return queue.count() >= maxQueueDepth;
+    }
+
+    private void receiveLine(ByteBuffer buffer, int start, int end) {
+        if (end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        if (end == start) {
+            return;
+        }
+        if (receiver.tryReceive(buffer, start, end - start) == InstructionMessageViolations.NONE) {
+            acceptedMessages.increment();
+        } else {
+            rejectedMessages.increment();
+        }
+    }
+
+    private class SelectorLoop implements Runnable {
+
+        private Selector selector;
+        private Thread thread;
+        private Queue<SocketChannel> pendingChannels = new ConcurrentLinkedQueue<>();
+        private List<SelectionKey> pausedKeys = new ArrayList<>();
+
+        SelectorLoop() throws IOException {
+            this.selector = Selector.open();
+        }
+
+        void register(SocketChannel channel) {
+            pendingChannels.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select(pausedKeys.isEmpty() ? 0 : PAUSED_CONNECTIONS_CHECK_INTERVAL_MILLIS);
+                    registerPendingChannels();
+                    resumePausedConnections();
+                    Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                    while (selectedKeys.hasNext()) {
+                        SelectionKey key = selectedKeys.next();
+                        selectedKeys.remove();
+                        if (key.isValid() && key.isReadable()) {
+                            read(key);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Selector loop failed", e);
+            } finally {
+                closeAll();
+            }
+        }
+
+        private void registerPendingChannels() {
+            SocketChannel channel;
+            while ((channel = pendingChannels.poll()) != null) {
+                try {
+                    channel.register(selector, SelectionKey.OP_READ, new Connection());
+                } catch (ClosedChannelException e) {
+                    openConnections.decrementAndGet();
+                }
+            }
+        }
+
+        private void resumePausedConnections() {
+            int index = 0;
+            while (index < pausedKeys.size() && !isSaturated()) {
+                SelectionKey key = pausedKeys.get(index);
+                if (!key.isValid() || processLines(key)) {
+                    pausedKeys.remove(index);
+                    if (key.isValid()) {
+                        key.interestOps(SelectionKey.OP_READ);
+                    }
+                } else {
+                    index++;
+                }
+            }
+        }
+
+        private void read(SelectionKey key) {
+            Connection connection = (Connection) key.attachment();
+            SocketChannel channel = (SocketChannel) key.channel();
+            try {
+                if (channel.read(connection.buffer) < 0) {
+                    connection.endOfStream = true;
+                }
+            } catch (IOException e) {
+                close(key);
+                return;
+            }
+            if (!processLines(key)) {
+                key.interestOps(0);
+                pausedKeys.add(key);
+            }
+        }
+
+        private boolean processLines(SelectionKey key) {
+            Connection connection = (Connection) key.attachment();
+            ByteBuffer buffer = connection.buffer;
+            int end = buffer.position();
+            int lineStart = 0;
+            boolean saturated = false;
+            for (int index = connection.scanned; index < end && !saturated; index++) {
+                if (buffer.get(index) == LINE_DELIMITER) {
+                    saturated = isSaturated();
+                    if (!saturated) {
+                        receiveLineUnlessDiscarding(connection, buffer, lineStart, index);
+                        lineStart = index + 1;
+                    }
+                }
+            }
+            compact(buffer, lineStart, end);
+            connection.scanned = saturated ? 0 : buffer.position();
+            if (saturated) {
+                return false;
+            }
+            if (connection.endOfStream) {
+                receiveLineUnlessDiscarding(connection, buffer, 0, buffer.position());
+                close(key);
+            } else if (!buffer.hasRemaining()) {
+                if (!connection.discardingLine) {
+                    rejectedMessages.increment();
+                }
+                connection.discardingLine = true;
+                buffer.clear();
+                connection.scanned = 0;
+            }
+            return true;
+        }
+
+        private void receiveLineUnlessDiscarding(Connection connection, ByteBuffer buffer, int start, int end) {
+            if (connection.discardingLine) {
+                connection.discardingLine = false;
+            } else {
+                receiveLine(buffer, start, end);
+            }
+        }
+
+        private void compact(ByteBuffer buffer, int start, int end) {
+            buffer.limit(end);
+            buffer.position(start);
+            buffer.compact();
+        }
+
+        private void close(SelectionKey key) {
+            key.cancel();
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+            }
+            openConnections.decrementAndGet();
+        }
+
+        private void closeAll() {
+            for (SelectionKey key : selector.keys()) {
+                if (key.isValid()) {
+                    close(key);
+                }
+            }
+            SocketChannel channel;
+            while ((channel = pendingChannels.poll()) != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+                openConnections.decrementAndGet();
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+    }
+
+    private static class Connection {
+
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        private int scanned;
+        private boolean endOfStream;
+        private boolean discardingLine;
+
+    }
+
+}
\ No newline at end of file
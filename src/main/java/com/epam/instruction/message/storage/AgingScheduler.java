@@ -0,0 +1,46 @@
+package com.epam.instruction.message.storage;
+
+import java.util.Arrays;
+
+public class AgingScheduler implements DequeueScheduler {
+
+    private long[] maxWaitMillis;
+
+    public AgingScheduler(long... maxWaitMillis) {
+        if (maxWaitMillis.length == 0) {
+            throw new IllegalArgumentException("At least one lane threshold is required");
+        }
+        for (long threshold : maxWaitMillis) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Lane thresholds must not be negative: " + Arrays.toString(maxWaitMillis));
+            }
+        }
+        this.maxWaitMillis = maxWaitMillis.clone();
+    }
+
+    @Override
+    public int selectLane(SchedulingState state) {
+        int mostOverdueLane = StrictPriorityScheduler.NO_LANE;
+        long mostOverdueMillis = -1;
+        for (int lane = 0; lane < state.numberOfLanes(); lane++) {
+            if (!state.isEmpty(lane)) {
+                long overdueMillis = state.headWaitMillis(lane) - maxWaitMillis[lane];
+                if (overdueMillis >= 0 && overdueMillis > mostOverdueMillis) {
+                    mostOverdueLane = lane;
+                    mostOverdueMillis = overdueMillis;
+                }
+            }
+        }
+        return mostOverdueLane == StrictPriorityScheduler.NO_LANE ? StrictPriorityScheduler.firstNonEmptyLane(state) : mostOverdueLane;
+    }
+
+    @Override
+    public boolean supportsLanes(int numberOfLanes) {
+        return maxWaitMillis.length == numberOfLanes;
+    }
+
+    @Override
+    public void dequeued(int lane) {
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class BoundedInstructionQueue implements MessageQueue {
+
+    private static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 1000;
+    private static final RemovalListener IGNORE_REMOVED = message -> {
+    };
+
+    private ArrayDeque<InstructionMessage>[] lanes;
+    private int count;
+    private int capacity;
+    private OverflowPolicy overflowPolicy;
+    private long blockTimeoutNanos;
+    private long rejectedCount;
+    private long evictedCount;
+    private RemovalListener removalListener = IGNORE_REMOVED;
+    private ReentrantLock lock = new ReentrantLock();
+    private Condition notFull = lock.newCondition();
+
+    public BoundedInstructionQueue(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, overflowPolicy, DEFAULT_BLOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public BoundedInstructionQueue(int capacity, OverflowPolicy overflowPolicy, long blockTimeout, TimeUnit unit) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = unit.toNanos(blockTimeout);
+        this.lanes = new ArrayDeque[PriorityPolicy.DEFAULT.numberOfLanes()];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new ArrayDeque<>();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getRejectedCount() {
+        lock.lock();
+        try {
+            return rejectedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getEvictedCount() {
+        lock.lock();
+        try {
+            return evictedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setRemovalListener(RemovalListener listener) {
+        lock.lock();
+        try {
+            this.removalListener = listener;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (!offer(message)) {
+            throw new InstructionQueueOverflowException("Instruction queue is full, capacity " + capacity
+                    + " reached with " + overflowPolicy + " policy");
+        }
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        if (!offerAll(messages)) {
+            throw new InstructionQueueOverflowException("Instruction queue can not admit batch of " + messages.size()
+                    + " messages, capacity " + capacity + " reached with " + overflowPolicy + " policy");
+        }
+    }
+
+    public boolean offerAll(Collection<InstructionMessage> messages) {
+        int[] messageLanes = new int[messages.size()];
+        int size = 0;
+        for (InstructionMessage message : messages) {
+            if (message != null) {
+                messageLanes[size++] = PriorityPolicy.DEFAULT.laneOf(message);
+            }
+        }
+        lock.lock();
+        try {
+            if (!canAdmit(messageLanes, size)) {
+                rejectedCount += size;
+                return false;
+            }
+            int index = 0;
+            for (InstructionMessage message : messages) {
+                if (message != null) {
+                    int lane = messageLanes[index++];
+                    if (count == capacity) {
+                        evictLowerPriorityThan(lane);
+                    }
+                    lanes[lane].addLast(message);
+                    count++;
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean offer(InstructionMessage message) {
+        if (message == null) {
+            return true;
+        }
+        int lane = PriorityPolicy.DEFAULT.laneOf(message);
+        lock.lock();
+        try {
+            if (count == capacity && !makeRoom(lane)) {
+                rejectedCount++;
+                return false;
+            }
+            lanes[lane].addLast(message);
+            count++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        lock.lock();
+        try {
+            ArrayDeque<InstructionMessage> lane = firstNonEmptyLane();
+            return lane == null ? null : lane.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        lock.lock();
+        try {
+            ArrayDeque<InstructionMessage> lane = firstNonEmptyLane();
+            if (lane == null) {
+                return null;
+            }
+            count--;
+            notFull.signalAll();
+            return lane.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean makeRoom(int lane) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                return awaitNotFull();
+            case EVICT_LOWEST_PRIORITY:
+                return evictLowerPriorityThan(lane);
+            default:
+                return false;
+        }
+    }
+
+    private boolean canAdmit(int[] messageLanes, int size) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                return size <= capacity && awaitRoom(size);
+            case EVICT_LOWEST_PRIORITY:
+                return canEvictFor(messageLanes, size);
+            default:
+                return count + size <= capacity;
+        }
+    }
+
+    private boolean canEvictFor(int[] messageLanes, int size) {
+        int[] laneCounts = new int[lanes.length];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            laneCounts[lane] = lanes[lane].size();
+        }
+        int simulatedCount = count;
+        for (int index = 0; index < size; index++) {
+            int lane = messageLanes[index];
+            if (simulatedCount == capacity) {
+                int lowestLane = lanes.length - 1;
+                while (lowestLane > lane && laneCounts[lowestLane] == 0) {
+                    lowestLane--;
+                }
+                if (lowestLane <= lane) {
+                    return false;
+                }
+                laneCounts[lowestLane]--;
+                simulatedCount--;
+            }
+            laneCounts[lane]++;
+            simulatedCount++;
+        }
+        return true;
+    }
+
+    private boolean awaitNotFull() {
+        return awaitRoom(1);
+    }
+
+    private boolean awaitRoom(int size) {
+        long remainingNanos = blockTimeoutNanos;
+        try {
+            while (capacity - count < size) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = notFull.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean evictLowerPriorityThan(int lane) {
+        for (int lowestLane = lanes.length - 1; lowestLane > lane; lowestLane--) {
+            if (!lanes[lowestLane].isEmpty()) {
+                InstructionMessage evicted = lanes[lowestLane].pollFirst();
+                count--;
+                evictedCount++;
+                removalListener.removed(evicted);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ArrayDeque<InstructionMessage> firstNonEmptyLane() {
+        for (ArrayDeque<InstructionMessage> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+}
\ No newline at end of file
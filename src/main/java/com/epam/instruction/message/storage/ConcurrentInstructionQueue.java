@@ -0,0 +1,174 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConcurrentInstructionQueue implements MessageQueue {
+
+    private ConcurrentLinkedQueue<InstructionMessage>[] lanes;
+    private AtomicInteger count = new AtomicInteger();
+    private AtomicInteger waitingConsumers = new AtomicInteger();
+    private ReentrantLock consumersLock = new ReentrantLock();
+    private Condition notEmpty = consumersLock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentInstructionQueue() {
+        this.lanes = new ConcurrentLinkedQueue[PriorityPolicy.DEFAULT.numberOfLanes()];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    @Override
+    public int count() {
+        return Math.max(count.get(), 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (message != null) {
+            lanes[PriorityPolicy.DEFAULT.laneOf(message)].offer(message);
+            count.incrementAndGet();
+            signalWaitingConsumer();
+        }
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        List<List<InstructionMessage>> batches = splitByLane(messages);
+        int enqueued = 0;
+        for (int lane = 0; lane < lanes.length; lane++) {
+            List<InstructionMessage> batch = batches.get(lane);
+            if (!batch.isEmpty()) {
+                lanes[lane].addAll(batch);
+                enqueued += batch.size();
+            }
+        }
+        if (enqueued > 0) {
+            count.addAndGet(enqueued);
+            signalAllWaitingConsumers();
+        }
+    }
+
+    private List<List<InstructionMessage>> splitByLane(Collection<InstructionMessage> messages) {
+        List<List<InstructionMessage>> batches = new ArrayList<>(lanes.length);
+        for (int lane = 0; lane < lanes.length; lane++) {
+            batches.add(new ArrayList<>());
+        }
+        for (InstructionMessage message : messages) {
+            if (message != null) {
+                batches.get(PriorityPolicy.DEFAULT.laneOf(message)).add(message);
+            }
+        }
+        return batches;
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        for (ConcurrentLinkedQueue<InstructionMessage> lane : lanes) {
+            InstructionMessage instructionMessage = lane.peek();
+            if (instructionMessage != null) {
+                return instructionMessage;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        for (ConcurrentLinkedQueue<InstructionMessage> lane : lanes) {
+            InstructionMessage instructionMessage = lane.poll();
+            if (instructionMessage != null) {
+                count.decrementAndGet();
+                return instructionMessage;
+            }
+        }
+        return null;
+    }
+
+    public InstructionMessage take() throws InterruptedException {
+        InstructionMessage instructionMessage = dequeue();
+        if (instructionMessage != null) {
+            return instructionMessage;
+        }
+        consumersLock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while ((instructionMessage = dequeue()) == null) {
+                notEmpty.await();
+            }
+            return instructionMessage;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            consumersLock.unlock();
+        }
+    }
+
+    public InstructionMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+        InstructionMessage instructionMessage = dequeue();
+        if (instructionMessage != null) {
+            return instructionMessage;
+        }
+        long remainingNanos = unit.toNanos(timeout);
+        consumersLock.lockInterruptibly();
+        waitingConsumers.incrementAndGet();
+        try {
+            while ((instructionMessage = dequeue()) == null && remainingNanos > 0) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            return instructionMessage;
+        } finally {
+            waitingConsumers.decrementAndGet();
+            consumersLock.unlock();
+        }
+    }
+
+    public int drainTo(Collection<? super InstructionMessage> messages, int maxElements) {
+        int drained = 0;
+        for (ConcurrentLinkedQueue<InstructionMessage> lane : lanes) {
+            InstructionMessage instructionMessage;
+            while (drained < maxElements && (instructionMessage = lane.poll()) != null) {
+                messages.add(instructionMessage);
+                drained++;
+            }
+        }
+        count.addAndGet(-drained);
+        return drained;
+    }
+
+    private void signalAllWaitingConsumers() {
+        if (waitingConsumers.get() > 0) {
+            consumersLock.lock();
+            try {
+                notEmpty.signalAll();
+            } finally {
+                consumersLock.unlock();
+            }
+        }
+    }
+
+    private void signalWaitingConsumer() {
+        if (waitingConsumers.get() > 0) {
+            consumersLock.lock();
+            try {
+                notEmpty.signal();
+            } finally {
+                consumersLock.unlock();
+            }
+        }
+    }
+
+}
\ No newline at end of file
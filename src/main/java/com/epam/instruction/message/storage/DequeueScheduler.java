@@ -0,0 +1,13 @@
+package com.epam.instruction.message.storage;
+
+public interface DequeueScheduler {
+
+    int selectLane(SchedulingState state);
+
+    void dequeued(int lane);
+
+    default boolean supportsLanes(int numberOfLanes) {
+        return true;
+    }
+
+}
\ No newline at end of file
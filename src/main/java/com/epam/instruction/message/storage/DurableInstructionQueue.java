@@ -0,0 +1,202 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class DurableInstructionQueue implements MessageQueue, Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_GROUP_COMMIT_RECORDS = 1024;
+    public static final long DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS = 10;
+
+    private static final String SYNC_THREAD_NAME = "instruction-wal-sync";
+
+    private InstructionQueue queue = new InstructionQueue();
+    private LongRing[] sequences;
+    private WriteAheadLog log;
+    private long nextSequence;
+    private long groupCommitIntervalNanos;
+    private Thread syncThread;
+    private volatile boolean running;
+
+    public DurableInstructionQueue(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_GROUP_COMMIT_RECORDS, DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS);
+    }
+
+    public DurableInstructionQueue(Path directory, int segmentSize, int groupCommitRecords, long groupCommitIntervalMillis) throws IOException {
+        this.sequences = new LongRing[PriorityPolicy.DEFAULT.numberOfLanes()];
+        for (int lane = 0; lane < sequences.length; lane++) {
+            sequences[lane] = new LongRing();
+        }
+        this.log = new WriteAheadLog(directory, segmentSize, groupCommitRecords, groupCommitIntervalMillis);
+        recover();
+        deleteConsumedSegments();
+        if (groupCommitIntervalMillis > 0) {
+            this.groupCommitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitIntervalMillis);
+            this.running = true;
+            this.syncThread = new Thread(this::syncPeriodically, SYNC_THREAD_NAME);
+            this.syncThread.setDaemon(true);
+            this.syncThread.start();
+        }
+    }
+
+    @Override
+    public synchronized int count() {
+        return queue.count();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public synchronized void enqueue(InstructionMessage message) {
+        if (message != null) {
+            long attributes = PackedInstructionMessage.packAttributes(message);
+            long timestamp = PackedInstructionMessage.packTimestamp(message.getTimestamp());
+            long sequence = nextSequence++;
+            append(WriteAheadLog.ENQUEUE_RECORD, sequence, attributes, timestamp);
+            queue.enqueue(message);
+            sequences[PriorityPolicy.DEFAULT.laneOf(message)].addLast(sequence);
+        }
+    }
+
+    @Override
+    public synchronized void enqueueAll(Collection<InstructionMessage> messages) {
+        for (InstructionMessage message : messages) {
+            enqueue(message);
+        }
+    }
+
+    @Override
+    public synchronized InstructionMessage peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public synchronized InstructionMessage dequeue() {
+        InstructionMessage instructionMessage = queue.dequeue();
+        if (instructionMessage != null) {
+            long sequence = sequences[PriorityPolicy.DEFAULT.laneOf(instructionMessage)].removeFirst();
+            append(WriteAheadLog.DEQUEUE_RECORD, sequence, 0, 0);
+            deleteConsumedSegments();
+        }
+        return instructionMessage;
+    }
+
+    public synchronized void sync() {
+        log.sync();
+    }
+
+    synchronized boolean isSynced() {
+        return log.isSynced();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (syncThread != null) {
+            LockSupport.unpark(syncThread);
+            try {
+                syncThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            log.close();
+        }
+    }
+
+    private void syncPeriodically() {
+        while (running) {
+            LockSupport.parkNanos(groupCommitIntervalNanos);
+            sync();
+        }
+    }
+
+    private void append(int type, long sequence, long attributes, long timestamp) {
+        try {
+            log.append(type, sequence, attributes, timestamp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteConsumedSegments() {
+        try {
+            log.deleteSegmentsBelow(lowestLiveSequence());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long lowestLiveSequence() {
+        long lowestLiveSequence = nextSequence;
+        for (LongRing laneSequences : sequences) {
+            if (!laneSequences.isEmpty()) {
+                lowestLiveSequence = Math.min(lowestLiveSequence, laneSequences.first());
+            }
+        }
+        return lowestLiveSequence;
+    }
+
+    private void recover() throws IOException {
+        RecoveredRecords records = new RecoveredRecords();
+        log.recover(records);
+        long[] consumed = Arrays.copyOf(records.consumed, records.consumedCount);
+        Arrays.sort(consumed);
+        int nextConsumed = 0;
+        while (!records.enqueued.isEmpty()) {
+            long sequence = records.enqueued.removeFirst();
+            long attributes = records.attributes.removeFirst();
+            long timestamp = records.timestamps.removeFirst();
+            while (nextConsumed < consumed.length && consumed[nextConsumed] < sequence) {
+                nextConsumed++;
+            }
+            if (nextConsumed == consumed.length || consumed[nextConsumed] != sequence) {
+                InstructionMessage message = PackedInstructionMessage.unpack(attributes, timestamp);
+                queue.enqueue(message);
+                sequences[PriorityPolicy.DEFAULT.laneOf(message)].addLast(sequence);
+            }
+        }
+        nextSequence = records.lastSequence + 1;
+    }
+
+    private static class RecoveredRecords implements WriteAheadLog.RecordVisitor {
+
+        private LongRing enqueued = new LongRing();
+        private LongRing attributes = new LongRing();
+        private LongRing timestamps = new LongRing();
+        private long[] consumed = new long[16];
+        private int consumedCount;
+        private long lastSequence = -1;
+
+        @Override
+        public void visit(int type, long sequence, long messageAttributes, long messageTimestamp) {
+            if (type == WriteAheadLog.ENQUEUE_RECORD) {
+                enqueued.addLast(sequence);
+                attributes.addLast(messageAttributes);
+                timestamps.addLast(messageTimestamp);
+            } else {
+                if (consumedCount == consumed.length) {
+                    consumed = Arrays.copyOf(consumed, consumedCount * 2);
+                }
+                consumed[consumedCount++] = sequence;
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+        }
+
+    }
+
+}
\ No newline at end of file
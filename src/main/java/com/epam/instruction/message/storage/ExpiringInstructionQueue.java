@@ -0,0 +1,190 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+import com.epam.instruction.message.support.EpochClock;
+import com.epam.instruction.message.support.SystemEpochClock;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+public class ExpiringInstructionQueue implements MessageQueue {
+
+    private static final long NO_TTL = 0;
+    private static final ExpiryListener IGNORE_EXPIRED = (message, ageMillis) -> {
+    };
+    private static final RemovalListener IGNORE_REMOVED = message -> {
+    };
+
+    private long[] ttlMillis = new long[PackedInstructionMessage.INSTRUCTION_TYPES];
+    private ExpiryListener listener;
+    private RemovalListener removalListener = IGNORE_REMOVED;
+    private EpochClock clock;
+    private TimingWheel<Entry> wheel;
+    private Entry[] heads = new Entry[PriorityPolicy.DEFAULT.numberOfLanes()];
+    private Entry[] tails = new Entry[PriorityPolicy.DEFAULT.numberOfLanes()];
+    private int count;
+    private long expiredCount;
+
+    public ExpiringInstructionQueue(Map<String, Long> ttlMillisByInstructionType) {
+        this(ttlMillisByInstructionType, IGNORE_EXPIRED, new SystemEpochClock());
+    }
+
+    public ExpiringInstructionQueue(Map<String, Long> ttlMillisByInstructionType, ExpiryListener listener) {
+        this(ttlMillisByInstructionType, listener, new SystemEpochClock());
+    }
+
+    public ExpiringInstructionQueue(Map<String, Long> ttlMillisByInstructionType, ExpiryListener listener, EpochClock clock) {
+        Arrays.fill(ttlMillis, NO_TTL);
+        for (Map.Entry<String, Long> ttl : ttlMillisByInstructionType.entrySet()) {
+            int type = PackedInstructionMessage.instructionTypeIndex(ttl.getKey());
+            if (type == PackedInstructionMessage.INVALID_INDEX) {
+                throw new IllegalArgumentException("Unknown instruction type: " + ttl.getKey());
+            }
+            if (ttl.getValue() < 1) {
+                throw new IllegalArgumentException("TTL must be positive: " + ttl.getValue());
+            }
+            ttlMillis[type] = ttl.getValue();
+        }
+        this.listener = listener;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(clock.currentTimeMillis());
+    }
+
+    @Override
+    public int count() {
+        expire();
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count() == 0;
+    }
+
+    public long getExpiredCount() {
+        return expiredCount;
+    }
+
+    @Override
+    public void setRemovalListener(RemovalListener listener) {
+        this.removalListener = listener;
+    }
+
+    public int expire() {
+        long before = expiredCount;
+        long now = clock.currentTimeMillis();
+        if (now > wheel.currentTick()) {
+            wheel.advance(now, this::expired);
+        }
+        return (int) (expiredCount - before);
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (message == null) {
+            return;
+        }
+        expire();
+        Entry entry = new Entry(message, PriorityPolicy.DEFAULT.laneOf(message));
+        long ttl = ttlOf(message);
+        if (ttl != NO_TTL && !wheel.schedule(entry, PackedInstructionMessage.packTimestamp(message.getTimestamp()) + ttl)) {
+            expiredCount++;
+            removalListener.removed(message);
+            listener.expired(message, wheel.currentTick() - PackedInstructionMessage.packTimestamp(message.getTimestamp()));
+            return;
+        }
+        linkLast(entry);
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        for (InstructionMessage message : messages) {
+            enqueue(message);
+        }
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        expire();
+        int lane = firstNonEmptyLane();
+        return lane == StrictPriorityScheduler.NO_LANE ? null : heads[lane].message;
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        expire();
+        int lane = firstNonEmptyLane();
+        if (lane == StrictPriorityScheduler.NO_LANE) {
+            return null;
+        }
+        Entry entry = heads[lane];
+        wheel.cancel(entry);
+        unlink(entry);
+        return entry.message;
+    }
+
+    private long ttlOf(InstructionMessage message) {
+        int type = message.getInstructionTypeIndex();
+        return type == PackedInstructionMessage.INVALID_INDEX || message.getTimestamp() == null ? NO_TTL : ttlMillis[type];
+    }
+
+    private void expired(Entry entry) {
+        unlink(entry);
+        expiredCount++;
+        removalListener.removed(entry.message);
+        listener.expired(entry.message, wheel.currentTick() - PackedInstructionMessage.packTimestamp(entry.message.getTimestamp()));
+    }
+
+    private int firstNonEmptyLane() {
+        for (int lane = 0; lane < heads.length; lane++) {
+            if (heads[lane] != null) {
+                return lane;
+            }
+        }
+        return StrictPriorityScheduler.NO_LANE;
+    }
+
+    private void linkLast(Entry entry) {
+        entry.previous = tails[entry.lane];
+        if (entry.previous == null) {
+            heads[entry.lane] = entry;
+        } else {
+            entry.previous.next = entry;
+        }
+        tails[entry.lane] = entry;
+        count++;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.previous == null) {
+            heads[entry.lane] = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+        if (entry.next == null) {
+            tails[entry.lane] = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+        count--;
+    }
+
+    private static class Entry extends TimingWheel.Timer {
+
+        private InstructionMessage message;
+        private int lane;
+        private Entry previous;
+        private Entry next;
+
+        Entry(InstructionMessage message, int lane) {
+            this.message = message;
+            this.lane = lane;
+        }
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+
+public interface ExpiryListener {
+
+    void expired(InstructionMessage message, long ageMillis);
+
+}
\ No newline at end of file
@@ -1,103 +1,218 @@
 package com.epam.instruction.message.storage;
 
 import com.epam.instruction.message.InstructionMessage;
-import org.apache.commons.lang3.tuple.Pair;
+import com.epam.instruction.message.support.EpochClock;
+import com.epam.instruction.message.support.SystemEpochClock;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+
+public class InstructionQueue implements MessageQueue {
+
+    private PriorityPolicy priorityPolicy;
+    private ArrayDeque<InstructionMessage>[] lanes;
+    private int count;
+    private ProductIndex productIndex = new ProductIndex();
+    private DequeueScheduler scheduler;
+    private EpochClock clock;
+    private LongRing[] enqueueTimes;
+    private LaneState laneState;
 
-import java.util.Comparator;
-import java.util.PriorityQueue;
+    public InstructionQueue() {
+        this(PriorityPolicy.DEFAULT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public InstructionQueue(PriorityPolicy priorityPolicy) {
+        this.priorityPolicy = priorityPolicy;
+        this.lanes = new ArrayDeque[priorityPolicy.numberOfLanes()];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new ArrayDeque<>();
+        }
+    }
 
-public class InstructionQueue {
+    public InstructionQueue(DequeueScheduler scheduler) {
+        this(scheduler, new SystemEpochClock());
+    }
 
-    private PriorityQueue<Pair<Long, InstructionMessage>> queue;
-    private long lastInsertedElementNumber = 0;
+    public InstructionQueue(DequeueScheduler scheduler, EpochClock clock) {
+        this(PriorityPolicy.DEFAULT, scheduler, clock);
+    }
 
-    public InstructionQueue() {
-        this.queue = new PriorityQueue<>(new InstructionMessageComparatorByType());
+    public InstructionQueue(PriorityPolicy priorityPolicy, DequeueScheduler scheduler, EpochClock clock) {
+        this(priorityPolicy);
+        if (!scheduler.supportsLanes(lanes.length)) {
+            throw new IllegalArgumentException("Scheduler does not support " + lanes.length + " priority lanes");
+        }
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.enqueueTimes = new LongRing[lanes.length];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            enqueueTimes[lane] = new LongRing();
+        }
+        this.laneState = new LaneState();
     }
 
+    @Override
     public int count() {
-        return queue.size();
+        return count;
     }
 
+    @Override
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return count == 0;
     }
 
+    @Override
     public void enqueue(InstructionMessage message) {
         if (message != null) {
-            lastInsertedElementNumber++;
-            queue.add(Pair.of(lastInsertedElementNumber, message));
+            addLast(priorityPolicy.laneOf(message), message);
         }
     }
 
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        for (InstructionMessage message : messages) {
+            enqueue(message);
+        }
+    }
+
+    @Override
     public InstructionMessage peek() {
         InstructionMessage instructionMessage = null;
         if (!isEmpty()) {
-            instructionMessage = queue.peek().getValue();
+            instructionMessage = lanes[nextLane()].peekFirst();
         }
         return instructionMessage;
     }
 
+    @Override
     public InstructionMessage dequeue() {
         InstructionMessage instructionMessage = null;
         if (!isEmpty()) {
-            instructionMessage = queue.poll().getValue();
+            int lane = nextLane();
+            instructionMessage = lanes[lane].pollFirst();
+            if (scheduler != null) {
+                enqueueTimes[lane].removeFirst();
+                scheduler.dequeued(lane);
+            }
+            productIndex.removed(instructionMessage);
+            count--;
         }
         return instructionMessage;
     }
 
-    private static class InstructionMessageComparatorByType implements Comparator<Pair<Long, InstructionMessage>> {
+    public int pendingCount(String productCode) {
+        return productIndex.count(productCode);
+    }
 
-        private enum InstructionType {
+    public int pendingCount(String productCode, String instructionType) {
+        return productIndex.count(productCode, instructionType);
+    }
 
-            A(Priority.HIGH),
-            B(Priority.MEDIUM),
-            C(Priority.LOW),
-            D(Priority.LOW);
+    public long pendingQuantity(String productCode) {
+        return productIndex.quantity(productCode);
+    }
 
-            private Priority priority;
+    public long pendingQuantity(String productCode, String instructionType) {
+        return productIndex.quantity(productCode, instructionType);
+    }
 
-            InstructionType(Priority priority) {
-                this.priority = priority;
+    public int removeAll(String productCode) {
+        int removed = 0;
+        if (pendingCount(productCode) == 0) {
+            return removed;
+        }
+        for (int lane = 0; lane < lanes.length; lane++) {
+            LongRing keptEnqueueTimes = new LongRing();
+            Iterator<InstructionMessage> messages = lanes[lane].iterator();
+            while (messages.hasNext()) {
+                InstructionMessage message = messages.next();
+                long enqueueTime = scheduler == null ? 0 : enqueueTimes[lane].removeFirst();
+                if (productCode.equals(message.getProductCode())) {
+                    messages.remove();
+                    productIndex.removed(message);
+                    removed++;
+                } else {
+                    keptEnqueueTimes.addLast(enqueueTime);
+                }
             }
-
-            int compareToByPriority(InstructionType that) {
-                return that.priority.level.compareTo(this.priority.level);
+            if (scheduler != null) {
+                enqueueTimes[lane] = keptEnqueueTimes;
             }
-
         }
+        count -= removed;
+        return removed;
+    }
 
-        private enum Priority {
+    public void snapshot(Path file) throws IOException {
+        InstructionQueueSnapshot.write(file, lanes);
+    }
+
+    public void restore(Path file) throws IOException {
+        if (!isEmpty()) {
+            throw new IllegalStateException("Snapshot can only be restored into an empty queue");
+        }
+        ArrayDeque<InstructionMessage>[] restored = InstructionQueueSnapshot.read(file, lanes.length);
+        long now = scheduler == null ? 0 : clock.currentTimeMillis();
+        for (int lane = 0; lane < restored.length; lane++) {
+            lanes[lane] = restored[lane];
+            for (InstructionMessage message : restored[lane]) {
+                if (scheduler != null) {
+                    enqueueTimes[lane].addLast(now);
+                }
+                productIndex.added(message);
+            }
+            count += restored[lane].size();
+        }
+    }
 
-            HIGH(3),
-            MEDIUM(2),
-            LOW(1);
+    private void addLast(int lane, InstructionMessage message) {
+        lanes[lane].addLast(message);
+        if (scheduler != null) {
+            enqueueTimes[lane].addLast(clock.currentTimeMillis());
+        }
+        productIndex.added(message);
+        count++;
+    }
 
-            private Integer level;
+    private int nextLane() {
+        if (scheduler == null) {
+            return firstNonEmptyLane();
+        }
+        laneState.now = clock.currentTimeMillis();
+        return scheduler.selectLane(laneState);
+    }
 
-            Priority(Integer level) {
-                this.level = level;
+    private int firstNonEmptyLane() {
+        for (int lane = 0; lane < lanes.length; lane++) {
+            if (!lanes[lane].isEmpty()) {
+                return lane;
             }
-
         }
+        return StrictPriorityScheduler.NO_LANE;
+    }
+
+    private class LaneState implements SchedulingState {
+
+        private long now;
 
         @Override
-        public int compare(Pair<Long, InstructionMessage> firstPair, Pair<Long, InstructionMessage> secondPair) {
-            int compareResult = compareByInstructionType(firstPair, secondPair);
-            if (compareResult == 0) {
-                compareResult = compareByLastInsertion(firstPair, secondPair);
-            }
-            return compareResult;
+        public int numberOfLanes() {
+            return lanes.length;
         }
 
-        private int compareByInstructionType(Pair<Long, InstructionMessage> firstPair, Pair<Long, InstructionMessage> secondPair) {
-            String firstMessageType = firstPair.getValue().getInstructionType();
-            String secondMessageType = secondPair.getValue().getInstructionType();
-            return InstructionType.valueOf(firstMessageType).compareToByPriority(InstructionType.valueOf(secondMessageType));
+        @Override
+        public boolean isEmpty(int lane) {
+            return lanes[lane].isEmpty();
         }
 
-        private int compareByLastInsertion(Pair<Long, InstructionMessage> firstPair, Pair<Long, InstructionMessage> secondPair) {
-            return firstPair.getKey().compareTo(secondPair.getKey());
+        @Override
+        public long headWaitMillis(int lane) {
+            return lanes[lane].isEmpty() ? 0 : now - enqueueTimes[lane].first();
         }
 
     }
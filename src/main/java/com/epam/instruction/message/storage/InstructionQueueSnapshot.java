@@ -0,0 +1,130 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+class InstructionQueueSnapshot {
+
+    private static final int MAGIC = 0x49515331;
+    private static final int VERSION = 1;
+    private static final int RECORD_SIZE = 2 * Long.BYTES;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private InstructionQueueSnapshot() {
+    }
+
+    static void write(Path file, ArrayDeque<InstructionMessage>[] lanes) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+        try {
+            writeLanes(temporaryFile, lanes);
+            moveIntoPlace(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeLanes(Path file, ArrayDeque<InstructionMessage>[] lanes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(lanes.length);
+            for (ArrayDeque<InstructionMessage> lane : lanes) {
+                buffer.putInt(lane.size());
+            }
+            for (ArrayDeque<InstructionMessage> lane : lanes) {
+                for (InstructionMessage message : lane) {
+                    if (buffer.remaining() < RECORD_SIZE) {
+                        flush(channel, buffer);
+                    }
+                    buffer.putLong(PackedInstructionMessage.packAttributes(message));
+                    buffer.putLong(PackedInstructionMessage.packTimestamp(message.getTimestamp()));
+                }
+            }
+            flush(channel, buffer);
+            channel.force(false);
+        }
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static ArrayDeque<InstructionMessage>[] read(Path file, int numberOfLanes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.flip();
+            fill(channel, buffer, 3 * Integer.BYTES);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not an instruction queue snapshot: " + file);
+            }
+            int lanes = buffer.getInt();
+            if (lanes != numberOfLanes) {
+                throw new IOException("Snapshot has " + lanes + " lanes but the queue has " + numberOfLanes);
+            }
+            int[] laneSizes = new int[lanes];
+            fill(channel, buffer, lanes * Integer.BYTES);
+            for (int lane = 0; lane < lanes; lane++) {
+                laneSizes[lane] = buffer.getInt();
+            }
+            ArrayDeque<InstructionMessage>[] restored = new ArrayDeque[lanes];
+            for (int lane = 0; lane < lanes; lane++) {
+                if (laneSizes[lane] < 0) {
+                    throw new IOException("Snapshot has negative size for lane " + lane);
+                }
+                restored[lane] = new ArrayDeque<>(Math.min(laneSizes[lane], BUFFER_SIZE));
+                for (int index = 0; index < laneSizes[lane]; index++) {
+                    fill(channel, buffer, RECORD_SIZE);
+                    restored[lane].addLast(unpack(buffer.getLong(), buffer.getLong()));
+                }
+            }
+            return restored;
+        }
+    }
+
+    private static InstructionMessage unpack(long attributes, long timestamp) throws IOException {
+        try {
+            return PackedInstructionMessage.unpack(attributes, timestamp);
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot contains an invalid record", e);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void fill(FileChannel channel, ByteBuffer buffer, int required) throws IOException {
+        if (buffer.remaining() >= required) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < required) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Instruction queue snapshot is truncated");
+            }
+        }
+        buffer.flip();
+    }
+
+}
\ No newline at end of file
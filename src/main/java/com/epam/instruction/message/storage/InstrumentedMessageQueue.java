@@ -0,0 +1,160 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.metrics.InstructionMessageMetrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+public class InstrumentedMessageQueue implements MessageQueue {
+
+    private static final long UNTRACKED = -1;
+
+    private MessageQueue queue;
+    private InstructionMessageMetrics metrics;
+    private ArrayDeque<InstructionMessage>[] trackedMessages;
+    private LongRing[] enqueueTimes;
+    private Object trackingLock = new Object();
+
+    @SuppressWarnings("unchecked")
+    public InstrumentedMessageQueue(MessageQueue queue, InstructionMessageMetrics metrics) {
+        this.queue = queue;
+        this.metrics = metrics;
+        this.trackedMessages = new ArrayDeque[PriorityPolicy.DEFAULT.numberOfLanes()];
+        this.enqueueTimes = new LongRing[trackedMessages.length];
+        for (int lane = 0; lane < enqueueTimes.length; lane++) {
+            trackedMessages[lane] = new ArrayDeque<>();
+            enqueueTimes[lane] = new LongRing();
+        }
+        queue.setRemovalListener(this::removed);
+    }
+
+    @Override
+    public int count() {
+        return queue.count();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (message == null) {
+            return;
+        }
+        int lane = PriorityPolicy.DEFAULT.laneOf(message);
+        synchronized (trackingLock) {
+            track(lane, message, System.nanoTime());
+            metrics.recordEnqueued(lane, 1);
+            try {
+                queue.enqueue(message);
+            } catch (RuntimeException e) {
+                untrackLast(lane, 1);
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        List<InstructionMessage>[] messagesByLane = splitByLane(messages);
+        for (int lane = 0; lane < messagesByLane.length; lane++) {
+            List<InstructionMessage> laneMessages = messagesByLane[lane];
+            if (laneMessages.isEmpty()) {
+                continue;
+            }
+            synchronized (trackingLock) {
+                long enqueueTime = System.nanoTime();
+                for (InstructionMessage message : laneMessages) {
+                    track(lane, message, enqueueTime);
+                }
+                metrics.recordEnqueued(lane, laneMessages.size());
+                try {
+                    queue.enqueueAll(laneMessages);
+                } catch (RuntimeException e) {
+                    untrackLast(lane, laneMessages.size());
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        return queue.peek();
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        InstructionMessage message = queue.dequeue();
+        if (message != null) {
+            int lane = PriorityPolicy.DEFAULT.laneOf(message);
+            long enqueueTime;
+            synchronized (trackingLock) {
+                enqueueTime = untrack(lane, message);
+            }
+            if (enqueueTime != UNTRACKED) {
+                metrics.recordDequeued(lane, message.getInstructionType(), System.nanoTime() - enqueueTime);
+            }
+        }
+        return message;
+    }
+
+    private void removed(InstructionMessage message) {
+        int lane = PriorityPolicy.DEFAULT.laneOf(message);
+        synchronized (trackingLock) {
+            if (untrack(lane, message) != UNTRACKED) {
+                metrics.recordRemoved(lane);
+            }
+        }
+    }
+
+    private void track(int lane, InstructionMessage message, long enqueueTime) {
+        trackedMessages[lane].addLast(message);
+        enqueueTimes[lane].addLast(enqueueTime);
+    }
+
+    private void untrackLast(int lane, int messages) {
+        for (int index = 0; index < messages; index++) {
+            trackedMessages[lane].pollLast();
+            enqueueTimes[lane].removeLast();
+        }
+        metrics.recordEnqueued(lane, -messages);
+    }
+
+    private long untrack(int lane, InstructionMessage message) {
+        ArrayDeque<InstructionMessage> laneMessages = trackedMessages[lane];
+        if (laneMessages.peekFirst() == message) {
+            laneMessages.pollFirst();
+            return enqueueTimes[lane].removeFirst();
+        }
+        int index = 0;
+        for (Iterator<InstructionMessage> iterator = laneMessages.iterator(); iterator.hasNext(); index++) {
+            if (iterator.next() == message) {
+                iterator.remove();
+                return enqueueTimes[lane].removeAt(index);
+            }
+        }
+        return UNTRACKED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InstructionMessage>[] splitByLane(Collection<InstructionMessage> messages) {
+        List<InstructionMessage>[] messagesByLane = new List[enqueueTimes.length];
+        for (int lane = 0; lane < messagesByLane.length; lane++) {
+            messagesByLane[lane] = new ArrayList<>();
+        }
+        for (InstructionMessage message : messages) {
+            if (message != null) {
+                messagesByLane[PriorityPolicy.DEFAULT.laneOf(message)].add(message);
+            }
+        }
+        return messagesByLane;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.epam.instruction.message.storage;
+
+import java.util.Arrays;
+
+class LongRing {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void addLast(long value) {
+        if (size == values.length) {
+            grow();
+        }
+        values[(head + size) & (values.length - 1)] = value;
+        size++;
+    }
+
+    long first() {
+        return values[head];
+    }
+
+    long removeFirst() {
+        long value = values[head];
+        head = (head + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    long removeLast() {
+        size--;
+        return values[(head + size) & (values.length - 1)];
+    }
+
+    long removeAt(int index) {
+        long value = values[(head + index) & (values.length - 1)];
+        for (int position = index; position > 0; position--) {
+            values[(head + position) & (values.length - 1)] = values[(head + position - 1) & (values.length - 1)];
+        }
+        head = (head + 1) & (values.length - 1);
+        size--;
+        return value;
+    }
+
+    private void grow() {
+        long[] grown = Arrays.copyOfRange(values, head, head + values.length * 2);
+        System.arraycopy(values, 0, grown, values.length - head, head);
+        values = grown;
+        head = 0;
+    }
+
+}
\ No newline at end of file
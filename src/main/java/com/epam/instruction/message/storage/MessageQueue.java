@@ -0,0 +1,24 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+
+import java.util.Collection;
+
+public interface MessageQueue {
+
+    int count();
+
+    boolean isEmpty();
+
+    void enqueue(InstructionMessage message);
+
+    void enqueueAll(Collection<InstructionMessage> messages);
+
+    InstructionMessage peek();
+
+    InstructionMessage dequeue();
+
+    default void setRemovalListener(RemovalListener listener) {
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.epam.instruction.message.storage;
+
+public enum OverflowPolicy {
+
+    REJECT,
+    BLOCK,
+    EVICT_LOWEST_PRIORITY
+
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import java.util.Collection;
+
+public class PackedInstructionQueue implements MessageQueue {
+
+    private PackedLane[] lanes;
+    private int count;
+
+    public PackedInstructionQueue() {
+        this.lanes = new PackedLane[PriorityPolicy.DEFAULT.numberOfLanes()];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new PackedLane();
+        }
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (message != null) {
+            long attributes = PackedInstructionMessage.packAttributes(message);
+            long timestamp = PackedInstructionMessage.packTimestamp(message.getTimestamp());
+            lanes[PriorityPolicy.DEFAULT.laneOf(message)].addLast(attributes, timestamp);
+            count++;
+        }
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        for (InstructionMessage message : messages) {
+            enqueue(message);
+        }
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        InstructionMessage instructionMessage = null;
+        if (!isEmpty()) {
+            PackedLane lane = firstNonEmptyLane();
+            instructionMessage = PackedInstructionMessage.unpack(lane.firstAttributes(), lane.firstTimestamp());
+        }
+        return instructionMessage;
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        InstructionMessage instructionMessage = null;
+        if (!isEmpty()) {
+            PackedLane lane = firstNonEmptyLane();
+            instructionMessage = PackedInstructionMessage.unpack(lane.firstAttributes(), lane.firstTimestamp());
+            lane.removeFirst();
+            count--;
+        }
+        return instructionMessage;
+    }
+
+    private PackedLane firstNonEmptyLane() {
+        for (PackedLane lane : lanes) {
+            if (!lane.isEmpty()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+}
\ No newline at end of file
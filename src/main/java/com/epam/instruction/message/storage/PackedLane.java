@@ -0,0 +1,34 @@
+package com.epam.instruction.message.storage;
+
+class PackedLane {
+
+    private LongRing attributes = new LongRing();
+    private LongRing timestamps = new LongRing();
+
+    int size() {
+        return attributes.size();
+    }
+
+    boolean isEmpty() {
+        return attributes.isEmpty();
+    }
+
+    void addLast(long messageAttributes, long messageTimestamp) {
+        attributes.addLast(messageAttributes);
+        timestamps.addLast(messageTimestamp);
+    }
+
+    long firstAttributes() {
+        return attributes.first();
+    }
+
+    long firstTimestamp() {
+        return timestamps.first();
+    }
+
+    void removeFirst() {
+        attributes.removeFirst();
+        timestamps.removeFirst();
+    }
+
+}
\ No newline at end of file
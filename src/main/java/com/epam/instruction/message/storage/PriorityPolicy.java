@@ -0,0 +1,88 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class PriorityPolicy {
+
+    public static final int HIGHEST_PRIORITY = 0;
+    public static final PriorityPolicy DEFAULT = new PriorityPolicy(defaultPriorities());
+
+    private static final int UNKNOWN_TYPE = -1;
+
+    private final int[] lanesByType;
+    private final int numberOfLanes;
+
+    public PriorityPolicy(Map<String, Integer> prioritiesByInstructionType) {
+        if (prioritiesByInstructionType.isEmpty()) {
+            throw new IllegalArgumentException("At least one instruction type priority is required");
+        }
+        char highestType = 0;
+        int[] priorities = new int[prioritiesByInstructionType.size()];
+        int index = 0;
+        for (Map.Entry<String, Integer> priority : prioritiesByInstructionType.entrySet()) {
+            String instructionType = priority.getKey();
+            if (instructionType == null || instructionType.length() != 1
+                    || PackedInstructionMessage.instructionTypeIndex(instructionType) == PackedInstructionMessage.INVALID_INDEX) {
+                throw new IllegalArgumentException("Unknown instruction type: " + instructionType);
+            }
+            if (priority.getValue() == null || priority.getValue() < HIGHEST_PRIORITY) {
+                throw new IllegalArgumentException("Priority must not be negative: " + priority.getValue());
+            }
+            highestType = (char) Math.max(highestType, instructionType.charAt(0));
+            priorities[index++] = priority.getValue();
+        }
+        int[] levels = distinctSorted(priorities);
+        int[] lanes = new int[highestType + 1];
+        Arrays.fill(lanes, UNKNOWN_TYPE);
+        for (Map.Entry<String, Integer> priority : prioritiesByInstructionType.entrySet()) {
+            lanes[priority.getKey().charAt(0)] = Arrays.binarySearch(levels, priority.getValue());
+        }
+        this.lanesByType = lanes;
+        this.numberOfLanes = levels.length;
+    }
+
+    public int numberOfLanes() {
+        return numberOfLanes;
+    }
+
+    public int laneOf(String instructionType) {
+        if (instructionType != null && instructionType.length() == 1) {
+            char type = instructionType.charAt(0);
+            if (type < lanesByType.length && lanesByType[type] != UNKNOWN_TYPE) {
+                return lanesByType[type];
+            }
+        }
+        throw new IllegalArgumentException("Unknown instruction type: " + instructionType);
+    }
+
+    int laneOf(InstructionMessage message) {
+        return laneOf(message.getInstructionType());
+    }
+
+    private static int[] distinctSorted(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int index = 0; index < sorted.length; index++) {
+            if (index == 0 || sorted[index] != sorted[index - 1]) {
+                sorted[distinct++] = sorted[index];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    private static Map<String, Integer> defaultPriorities() {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        priorities.put("A", HIGHEST_PRIORITY);
+        priorities.put("B", HIGHEST_PRIORITY + 1);
+        priorities.put("C", HIGHEST_PRIORITY + 2);
+        priorities.put("D", HIGHEST_PRIORITY + 2);
+        return priorities;
+    }
+
+}
\ No newline at end of file
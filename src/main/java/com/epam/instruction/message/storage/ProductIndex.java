@@ -0,0 +1,83 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+class ProductIndex {
+
+    private static final int TYPES = PackedInstructionMessage.INSTRUCTION_TYPES;
+    private static final int SLOTS = PackedInstructionMessage.PRODUCT_CODES * TYPES;
+
+    private int[] counts;
+    private long[] quantities;
+
+    void added(InstructionMessage message) {
+        int slot = slotOf(message);
+        if (slot != PackedInstructionMessage.INVALID_INDEX) {
+            if (counts == null) {
+                counts = new int[SLOTS];
+                quantities = new long[SLOTS];
+            }
+            counts[slot]++;
+            quantities[slot] += message.getQuantity();
+        }
+    }
+
+    void removed(InstructionMessage message) {
+        int slot = slotOf(message);
+        if (slot != PackedInstructionMessage.INVALID_INDEX && counts != null) {
+            counts[slot]--;
+            quantities[slot] -= message.getQuantity();
+        }
+    }
+
+    int count(String productCode) {
+        int productCodeIndex = PackedInstructionMessage.productCodeIndex(productCode);
+        if (productCodeIndex == PackedInstructionMessage.INVALID_INDEX || counts == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int type = 0; type < TYPES; type++) {
+            count += counts[productCodeIndex * TYPES + type];
+        }
+        return count;
+    }
+
+    int count(String productCode, String instructionType) {
+        int slot = slotOf(productCode, instructionType);
+        return slot == PackedInstructionMessage.INVALID_INDEX || counts == null ? 0 : counts[slot];
+    }
+
+    long quantity(String productCode) {
+        int productCodeIndex = PackedInstructionMessage.productCodeIndex(productCode);
+        if (productCodeIndex == PackedInstructionMessage.INVALID_INDEX || quantities == null) {
+            return 0;
+        }
+        long quantity = 0;
+        for (int type = 0; type < TYPES; type++) {
+            quantity += quantities[productCodeIndex * TYPES + type];
+        }
+        return quantity;
+    }
+
+    long quantity(String productCode, String instructionType) {
+        int slot = slotOf(productCode, instructionType);
+        return slot == PackedInstructionMessage.INVALID_INDEX || quantities == null ? 0 : quantities[slot];
+    }
+
+    private static int slotOf(InstructionMessage message) {
+        return slotOf(message.getProductCodeIndex(), message.getInstructionTypeIndex());
+    }
+
+    private static int slotOf(String productCode, String instructionType) {
+        return slotOf(PackedInstructionMessage.productCodeIndex(productCode), PackedInstructionMessage.instructionTypeIndex(instructionType));
+    }
+
+    private static int slotOf(int productCodeIndex, int typeIndex) {
+        if (productCodeIndex == PackedInstructionMessage.INVALID_INDEX || typeIndex == PackedInstructionMessage.INVALID_INDEX) {
+            return PackedInstructionMessage.INVALID_INDEX;
+        }
+        return productCodeIndex * TYPES + typeIndex;
+    }
+
+}
\ No newline at end of file
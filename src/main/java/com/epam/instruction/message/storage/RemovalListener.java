@@ -0,0 +1,9 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+
+public interface RemovalListener {
+
+    void removed(InstructionMessage message);
+
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.epam.instruction.message.storage;
+
+public interface SchedulingState {
+
+    int numberOfLanes();
+
+    boolean isEmpty(int lane);
+
+    long headWaitMillis(int lane);
+
+}
\ No newline at end of file
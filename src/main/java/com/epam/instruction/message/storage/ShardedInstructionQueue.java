@@ -0,0 +1,135 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ShardedInstructionQueue implements MessageQueue {
+
+    private ConcurrentInstructionQueue[] shards;
+    private LongAdder stolenMessages = new LongAdder();
+
+    public ShardedInstructionQueue() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ShardedInstructionQueue(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = new ConcurrentInstructionQueue[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            this.shards[shard] = new ConcurrentInstructionQueue();
+        }
+    }
+
+    public int getShards() {
+        return shards.length;
+    }
+
+    public long getStolenMessages() {
+        return stolenMessages.sum();
+    }
+
+    public int count(int shard) {
+        return shards[shard].count();
+    }
+
+    @Override
+    public int count() {
+        int count = 0;
+        for (ConcurrentInstructionQueue shard : shards) {
+            count += shard.count();
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (ConcurrentInstructionQueue shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void enqueue(InstructionMessage message) {
+        if (message != null) {
+            shards[shardOf(message)].enqueue(message);
+        }
+    }
+
+    @Override
+    public void enqueueAll(Collection<InstructionMessage> messages) {
+        List<List<InstructionMessage>> batches = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            batches.add(new ArrayList<>());
+        }
+        for (InstructionMessage message : messages) {
+            if (message != null) {
+                batches.get(shardOf(message)).add(message);
+            }
+        }
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (!batches.get(shard).isEmpty()) {
+                shards[shard].enqueueAll(batches.get(shard));
+            }
+        }
+    }
+
+    @Override
+    public InstructionMessage peek() {
+        int homeShard = homeShard();
+        for (int offset = 0; offset < shards.length; offset++) {
+            InstructionMessage instructionMessage = shards[(homeShard + offset) % shards.length].peek();
+            if (instructionMessage != null) {
+                return instructionMessage;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public InstructionMessage dequeue() {
+        return dequeue(homeShard());
+    }
+
+    public InstructionMessage dequeue(int consumer) {
+        int homeShard = Math.floorMod(consumer, shards.length);
+        InstructionMessage instructionMessage = shards[homeShard].dequeue();
+        if (instructionMessage != null) {
+            return instructionMessage;
+        }
+        return steal(homeShard);
+    }
+
+    private InstructionMessage steal(int homeShard) {
+        for (int offset = 1; offset < shards.length; offset++) {
+            InstructionMessage instructionMessage = shards[(homeShard + offset) % shards.length].dequeue();
+            if (instructionMessage != null) {
+                stolenMessages.increment();
+                return instructionMessage;
+            }
+        }
+        return null;
+    }
+
+    private int homeShard() {
+        return (int) (Thread.currentThread().getId() % shards.length);
+    }
+
+    private int shardOf(InstructionMessage message) {
+        String productCode = message.getProductCode();
+        int productCodeIndex = PackedInstructionMessage.productCodeIndex(productCode);
+        int hash = productCodeIndex != PackedInstructionMessage.INVALID_INDEX ? productCodeIndex
+                : productCode == null ? 0 : productCode.hashCode();
+        return Math.floorMod(hash, shards.length);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.epam.instruction.message.storage;
+
+public class StrictPriorityScheduler implements DequeueScheduler {
+
+    static final int NO_LANE = -1;
+
+    @Override
+    public int selectLane(SchedulingState state) {
+        return firstNonEmptyLane(state);
+    }
+
+    @Override
+    public void dequeued(int lane) {
+    }
+
+    static int firstNonEmptyLane(SchedulingState state) {
+        for (int lane = 0; lane < state.numberOfLanes(); lane++) {
+            if (!state.isEmpty(lane)) {
+                return lane;
+            }
+        }
+        return NO_LANE;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.epam.instruction.message.storage;
+
+import java.util.function.Consumer;
+
+class TimingWheel<T extends TimingWheel.Timer> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+    private static final int UNSCHEDULED = -1;
+
+    private Timer[] slots = new Timer[LEVELS * SLOTS];
+    private int[] levelSizes = new int[LEVELS];
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    boolean schedule(Timer timer, long deadlineTick) {
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        timer.deadlineTick = deadlineTick;
+        link(timer);
+        return true;
+    }
+
+    void cancel(Timer timer) {
+        if (timer.slot != UNSCHEDULED) {
+            unlink(timer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void advance(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            long nextTick = nextEventTick();
+            if (nextTick > tick) {
+                currentTick = tick;
+                return;
+            }
+            currentTick = nextTick;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    cascade(level, expired);
+                }
+            }
+            Timer timer;
+            while ((timer = slots[(int) (currentTick & SLOT_MASK)]) != null) {
+                unlink(timer);
+                expired.accept((T) timer);
+            }
+        }
+    }
+
+    private long nextEventTick() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] > 0) {
+                long span = 1L << (level * SLOT_BITS);
+                return (currentTick | (span - 1)) + 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void cascade(int level, Consumer<T> expired) {
+        int slot = level * SLOTS + (int) ((currentTick >>> (level * SLOT_BITS)) & SLOT_MASK);
+        Timer timer;
+        while ((timer = slots[slot]) != null) {
+            unlink(timer);
+            if (timer.deadlineTick <= currentTick) {
+                expired.accept((T) timer);
+            } else {
+                link(timer);
+            }
+        }
+    }
+
+    private void link(Timer timer) {
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(timer.deadlineTick ^ currentTick)) / SLOT_BITS;
+        int slot = level * SLOTS + (int) ((timer.deadlineTick >>> (level * SLOT_BITS)) & SLOT_MASK);
+        timer.slot = slot;
+        timer.previous = null;
+        timer.next = slots[slot];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        slots[slot] = timer;
+        levelSizes[level]++;
+        size++;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous == null) {
+            slots[timer.slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        levelSizes[timer.slot / SLOTS]--;
+        size--;
+        timer.slot = UNSCHEDULED;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    static class Timer {
+
+        private long deadlineTick;
+        private int slot = UNSCHEDULED;
+        private Timer previous;
+        private Timer next;
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.epam.instruction.message.storage;
+
+import java.util.Arrays;
+
+public class WeightedFairScheduler implements DequeueScheduler {
+
+    private int[] weights;
+    private int[] credits;
+
+    public WeightedFairScheduler(int... weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one lane weight is required");
+        }
+        for (int weight : weights) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Lane weights must be positive: " + Arrays.toString(weights));
+            }
+        }
+        this.weights = weights.clone();
+        this.credits = weights.clone();
+    }
+
+    @Override
+    public int selectLane(SchedulingState state) {
+        for (int lane = 0; lane < state.numberOfLanes(); lane++) {
+            if (!state.isEmpty(lane) && credits[lane] > 0) {
+                return lane;
+            }
+        }
+        return StrictPriorityScheduler.firstNonEmptyLane(state);
+    }
+
+    @Override
+    public boolean supportsLanes(int numberOfLanes) {
+        return weights.length == numberOfLanes;
+    }
+
+    @Override
+    public void dequeued(int lane) {
+        if (credits[lane] == 0) {
+            System.arraycopy(weights, 0, credits, 0, weights.length);
+        }
+        credits[lane]--;
+    }
+
+}
\ No newline at end of file
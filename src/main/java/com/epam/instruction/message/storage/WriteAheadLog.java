@@ -0,0 +1,205 @@
+package com.epam.instruction.message.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+class WriteAheadLog implements Closeable {
+
+    static final int RECORD_SIZE = 32;
+    static final int ENQUEUE_RECORD = 1;
+    static final int DEQUEUE_RECORD = 2;
+
+    private static final int END_OF_LOG = 0;
+    private static final long NO_SEQUENCE = -1;
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "instructions-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SEGMENT_NAME_FORMAT = SEGMENT_PREFIX + "%019d" + SEGMENT_SUFFIX;
+
+    private Path directory;
+    private int segmentSize;
+    private int groupCommitRecords;
+    private long groupCommitIntervalNanos;
+
+    private ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private CRC32 checksum = new CRC32();
+    private MappedByteBuffer segment;
+    private long segmentIndex;
+    private long segmentLastEnqueueSequence = NO_SEQUENCE;
+    private LongRing closedSegmentIndexes = new LongRing();
+    private LongRing closedSegmentLastEnqueueSequences = new LongRing();
+    private int unsyncedRecords;
+    private long lastSyncNanos = System.nanoTime();
+
+    WriteAheadLog(Path directory, int segmentSize, int groupCommitRecords, long groupCommitIntervalMillis) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size must hold at least one record");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.groupCommitRecords = groupCommitRecords;
+        this.groupCommitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitIntervalMillis);
+    }
+
+    void recover(RecordVisitor visitor) throws IOException {
+        Files.createDirectories(directory);
+        List<Long> segmentIndexes = listSegmentIndexes();
+        int recovered = 0;
+        boolean endOfLogFound = false;
+        while (recovered < segmentIndexes.size() && !endOfLogFound) {
+            if (segment != null) {
+                closeSegment();
+            }
+            segmentIndex = segmentIndexes.get(recovered++);
+            segment = map(segmentIndex);
+            endOfLogFound = replaySegment(visitor);
+        }
+        for (int index = recovered; index < segmentIndexes.size(); index++) {
+            Files.delete(segmentPath(segmentIndexes.get(index)));
+        }
+        if (segment == null) {
+            segmentIndex = 0;
+            segment = map(segmentIndex);
+        }
+    }
+
+    void append(int type, long sequence, long attributes, long timestamp) throws IOException {
+        if (segment.remaining() < RECORD_SIZE) {
+            roll();
+        }
+        record.clear();
+        record.putInt(type).putLong(sequence).putLong(attributes).putLong(timestamp);
+        checksum.reset();
+        checksum.update(record.array(), 0, CHECKSUM_OFFSET);
+        record.putInt((int) checksum.getValue());
+        segment.put(record.array());
+        if (type == ENQUEUE_RECORD) {
+            segmentLastEnqueueSequence = sequence;
+        }
+        unsyncedRecords++;
+        if (unsyncedRecords >= groupCommitRecords || System.nanoTime() - lastSyncNanos >= groupCommitIntervalNanos) {
+            sync();
+        }
+    }
+
+    void sync() {
+        if (unsyncedRecords > 0) {
+            segment.force();
+            unsyncedRecords = 0;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    boolean isSynced() {
+        return unsyncedRecords == 0;
+    }
+
+    void deleteSegmentsBelow(long lowestLiveSequence) throws IOException {
+        while (!closedSegmentIndexes.isEmpty() && closedSegmentLastEnqueueSequences.first() < lowestLiveSequence) {
+            Files.deleteIfExists(segmentPath(closedSegmentIndexes.removeFirst()));
+            closedSegmentLastEnqueueSequences.removeFirst();
+        }
+    }
+
+    @Override
+    public void close() {
+        sync();
+    }
+
+    private boolean replaySegment(RecordVisitor visitor) {
+        while (segment.remaining() >= RECORD_SIZE) {
+            int position = segment.position();
+            record.clear();
+            segment.get(record.array());
+            int type = record.getInt();
+            if (type == END_OF_LOG || !isValid(type)) {
+                clearFrom(position);
+                return true;
+            }
+            long sequence = record.getLong();
+            if (type == ENQUEUE_RECORD) {
+                segmentLastEnqueueSequence = sequence;
+            }
+            visitor.visit(type, sequence, record.getLong(), record.getLong());
+        }
+        return false;
+    }
+
+    private void clearFrom(int position) {
+        boolean cleared = false;
+        for (int offset = position; offset < segment.limit(); offset += Long.BYTES) {
+            if (segment.getLong(offset) != 0) {
+                segment.putLong(offset, 0);
+                cleared = true;
+            }
+        }
+        if (cleared) {
+            segment.force();
+        }
+        segment.position(position);
+    }
+
+    private boolean isValid(int type) {
+        checksum.reset();
+        checksum.update(record.array(), 0, CHECKSUM_OFFSET);
+        boolean knownType = type == ENQUEUE_RECORD || type == DEQUEUE_RECORD;
+        return knownType && record.getInt(CHECKSUM_OFFSET) == (int) checksum.getValue();
+    }
+
+    private void roll() throws IOException {
+        segment.force();
+        unsyncedRecords = 0;
+        closeSegment();
+        segmentIndex++;
+        segment = map(segmentIndex);
+    }
+
+    private void closeSegment() {
+        closedSegmentIndexes.addLast(segmentIndex);
+        closedSegmentLastEnqueueSequences.addLast(segmentLastEnqueueSequence);
+        segmentLastEnqueueSequence = NO_SEQUENCE;
+    }
+
+    private MappedByteBuffer map(long index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(segmentSize, channel.size() - channel.size() % RECORD_SIZE);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format(SEGMENT_NAME_FORMAT, index));
+    }
+
+    private List<Long> listSegmentIndexes() throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : paths) {
+                String name = path.getFileName().toString();
+                indexes.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        Collections.sort(indexes);
+        return indexes;
+    }
+
+    interface RecordVisitor {
+
+        void visit(int type, long sequence, long attributes, long timestamp);
+
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.epam.instruction.message.support;
+
+import java.io.Closeable;
+import java.util.concurrent.locks.LockSupport;
+
+public class CachedEpochClock implements EpochClock, Closeable {
+
+    public static final long DEFAULT_TICK_MILLIS = 1;
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final String THREAD_NAME = "instruction-message-clock";
+
+    private EpochClock source;
+    private long tickNanos;
+    private Thread ticker;
+    private volatile long currentTimeMillis;
+    private volatile boolean running;
+
+    public CachedEpochClock() {
+        this(new SystemEpochClock(), DEFAULT_TICK_MILLIS);
+    }
+
+    public CachedEpochClock(EpochClock source, long tickMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond: " + tickMillis);
+        }
+        this.source = source;
+        this.tickNanos = tickMillis * NANOS_PER_MILLI;
+        this.currentTimeMillis = source.currentTimeMillis();
+        this.running = true;
+        this.ticker = new Thread(this::tick, THREAD_NAME);
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(ticker);
+        try {
+            ticker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick() {
+        while (running) {
+            LockSupport.parkNanos(tickNanos);
+            currentTimeMillis = source.currentTimeMillis();
+        }
+    }
+
+}
\ No newline at end of file
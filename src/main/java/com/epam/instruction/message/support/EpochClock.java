@@ -0,0 +1,7 @@
+package com.epam.instruction.message.support;
+
+public interface EpochClock {
+
+    long currentTimeMillis();
+
+}
\ No newline at end of file
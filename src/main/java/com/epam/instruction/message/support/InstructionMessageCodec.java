@@ -0,0 +1,56 @@
+package com.epam.instruction.message.support;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+import com.epam.instruction.message.support.exceptions.InstructionMessageParsingException;
+
+import java.nio.ByteBuffer;
+
+public class InstructionMessageCodec {
+
+    public static final int RECORD_SIZE = 2 * Long.BYTES;
+
+    private static final int TIMESTAMP_OFFSET = Long.BYTES;
+    private static final long RESERVED_BITS_MASK = 0xFC00_0000_0000_0000L;
+
+    public void encode(InstructionMessage message, ByteBuffer target) {
+        encode(message, target, target.position());
+        target.position(target.position() + RECORD_SIZE);
+    }
+
+    public void encode(InstructionMessage message, ByteBuffer target, int offset) {
+        long attributes = PackedInstructionMessage.packAttributes(message);
+        target.putLong(offset, attributes);
+        target.putLong(offset + TIMESTAMP_OFFSET, PackedInstructionMessage.packTimestamp(message.getTimestamp()));
+    }
+
+    public InstructionMessage decode(ByteBuffer source, int offset) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = tryDecode(source, offset, instructionMessage);
+        if (violations != InstructionMessageViolations.NONE) {
+            throw new InstructionMessageParsingException(InstructionMessageViolations.describe(violations).trim());
+        }
+        return instructionMessage;
+    }
+
+    public int tryDecode(ByteBuffer source, int offset, InstructionMessage target) {
+        if (source == null || source.limit() - offset < RECORD_SIZE) {
+            return InstructionMessageViolations.EMPTY_MESSAGE;
+        }
+        long attributes = source.getLong(offset);
+        if ((attributes & RESERVED_BITS_MASK) != 0) {
+            return InstructionMessageViolations.MESSAGE_HEADER;
+        }
+        int productCodeIndex = PackedInstructionMessage.productCodeIndex(attributes);
+        if (productCodeIndex >= PackedInstructionMessage.PRODUCT_CODES) {
+            return InstructionMessageViolations.PRODUCT_CODE;
+        }
+        target.setInstructionType(PackedInstructionMessage.instructionType(PackedInstructionMessage.instructionTypeIndex(attributes)));
+        target.setProductCode(PackedInstructionMessage.productCode(productCodeIndex));
+        target.setQuantity(PackedInstructionMessage.quantity(attributes));
+        target.setUom(PackedInstructionMessage.uom(attributes));
+        target.setTimestamp(PackedInstructionMessage.unpackTimestamp(source.getLong(offset + TIMESTAMP_OFFSET)));
+        return InstructionMessageViolations.NONE;
+    }
+
+}
\ No newline at end of file
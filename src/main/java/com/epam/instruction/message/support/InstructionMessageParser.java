@@ -1,59 +1,331 @@
 package com.epam.instruction.message.support;
 
 import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
 import com.epam.instruction.message.support.exceptions.InstructionMessageParsingException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
 
 public class InstructionMessageParser {
 
-    private static final String INPUT_MESSAGE_ARGUMENTS_DELIMITER = " ";
-    private static final String DATE_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    private static final char INPUT_MESSAGE_ARGUMENTS_DELIMITER = ' ';
     private static final String MESSAGE_HEADER = "InstructionMessage";
     private static final int REQUIRED_NUMBER_OF_ARGUMENTS = 6;
-    private static final int MESSAGE_HEADER_INDEX = 0;
-    private static final int INSTRUCTION_TYPE_INDEX = 1;
-    private static final int PRODUCT_CODE_INDEX = 2;
     private static final int QUANTITY_INDEX = 3;
     private static final int UOM_INDEX = 4;
     private static final int TIMESTAMP_INDEX = 5;
+    private static final long INVALID_NUMBER = Long.MIN_VALUE;
+    private static final int VALID_FORMAT = -1;
+
+    private static final String TIMESTAMP_FORMAT = "dddd-dd-ddTdd:dd:dd.dddZ";
+    private static final char TIMESTAMP_DIGIT = 'd';
+    private static final int YEAR_OFFSET = 0;
+    private static final int MONTH_OFFSET = 5;
+    private static final int DAY_OFFSET = 8;
+    private static final int HOUR_OFFSET = 11;
+    private static final int MINUTE_OFFSET = 14;
+    private static final int SECOND_OFFSET = 17;
+    private static final int MILLIS_OFFSET = 20;
+    private static final int END_OF_DAY_HOUR = 24;
+    private static final int NANOS_PER_MILLI = 1_000_000;
 
     public InstructionMessage parse(String message) {
-        checkEmptyMessage(message);
-        String[] arguments = message.split(INPUT_MESSAGE_ARGUMENTS_DELIMITER);
-        checkNumberOfArgumentsInMessage(arguments.length);
-        String messageHeader = arguments[MESSAGE_HEADER_INDEX];
-        checkHeaderOfMessage(messageHeader);
-        return createInstructionMessage(arguments);
+        return parse((CharSequence) message);
     }
 
-    private void checkEmptyMessage(String message) {
-        if (message == null || message.isEmpty()) {
-            throw new InstructionMessageParsingException("The message is empty");
+    public InstructionMessage parse(CharSequence message) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        int violations = tryParse(message, instructionMessage);
+        if (violations != InstructionMessageViolations.NONE) {
+            throw parsingFailure(message, violations);
         }
+        return instructionMessage;
+    }
+
+    public InstructionMessage parse(byte[] message, int offset, int length) {
+        return parse(message == null ? null : new ByteArrayAsciiSequence(message, offset, length));
+    }
+
+    public InstructionMessage parse(ByteBuffer message, int offset, int length) {
+        return parse(message == null ? null : new ByteBufferAsciiSequence(message, offset, length));
+    }
+
+    public int tryParse(byte[] message, int offset, int length, InstructionMessage target) {
+        return tryParse(message == null ? null : new ByteArrayAsciiSequence(message, offset, length), target);
     }
 
-    private void checkNumberOfArgumentsInMessage(int numberOfArguments) {
-        if (numberOfArguments != REQUIRED_NUMBER_OF_ARGUMENTS) {
-            throw new InstructionMessageParsingException("Incorrect number of arguments in message");
+    public int tryParse(ByteBuffer message, int offset, int length, InstructionMessage target) {
+        return tryParse(message == null ? null : new ByteBufferAsciiSequence(message, offset, length), target);
+    }
+
+    public int tryParse(CharSequence message, InstructionMessage target) {
+        if (message == null || message.length() == 0) {
+            return InstructionMessageViolations.EMPTY_MESSAGE;
+        }
+        int end = skipTrailingDelimiters(message, 0, message.length());
+        if (countArguments(message, 0, end) != REQUIRED_NUMBER_OF_ARGUMENTS) {
+            return InstructionMessageViolations.ARGUMENTS_NUMBER;
         }
+        int headerEnd = nextDelimiter(message, 0, end);
+        if (!regionEquals(message, 0, headerEnd, MESSAGE_HEADER)) {
+            return InstructionMessageViolations.MESSAGE_HEADER;
+        }
+        int instructionTypeEnd = nextDelimiter(message, headerEnd + 1, end);
+        int productCodeEnd = nextDelimiter(message, instructionTypeEnd + 1, end);
+        int quantityEnd = nextDelimiter(message, productCodeEnd + 1, end);
+        int uomEnd = nextDelimiter(message, quantityEnd + 1, end);
+        long quantity = parseInt(message, productCodeEnd + 1, quantityEnd);
+        if (quantity == INVALID_NUMBER) {
+            return InstructionMessageViolations.QUANTITY_FORMAT;
+        }
+        long uom = parseInt(message, quantityEnd + 1, uomEnd);
+        if (uom == INVALID_NUMBER) {
+            return InstructionMessageViolations.UOM_FORMAT;
+        }
+        LocalDateTime timestamp = parseTimestamp(message, uomEnd + 1, end);
+        if (timestamp == null) {
+            return InstructionMessageViolations.TIMESTAMP_FORMAT;
+        }
+        target.setInstructionType(instructionType(message, headerEnd + 1, instructionTypeEnd));
+        target.setProductCode(productCode(message, instructionTypeEnd + 1, productCodeEnd));
+        target.setQuantity((int) quantity);
+        target.setUom((int) uom);
+        target.setTimestamp(timestamp);
+        return InstructionMessageViolations.NONE;
     }
 
-    private void checkHeaderOfMessage(String argument) {
-        if (!MESSAGE_HEADER.equals(argument)) {
-            throw new InstructionMessageParsingException("Message header is missing or invalid");
+    public static RuntimeException parsingFailure(CharSequence message, int violations) {
+        switch (violations) {
+            case InstructionMessageViolations.QUANTITY_FORMAT:
+                return numberFormatException(argument(message, QUANTITY_INDEX));
+            case InstructionMessageViolations.UOM_FORMAT:
+                return numberFormatException(argument(message, UOM_INDEX));
+            case InstructionMessageViolations.TIMESTAMP_FORMAT:
+                return timestampParseException(argument(message, TIMESTAMP_INDEX));
+            default:
+                return new InstructionMessageParsingException(InstructionMessageViolations.describe(violations).trim());
         }
     }
 
-    private InstructionMessage createInstructionMessage(String[] arguments) {
-        InstructionMessage instructionMessage = new InstructionMessage();
-        instructionMessage.setInstructionType(arguments[INSTRUCTION_TYPE_INDEX]);
-        instructionMessage.setProductCode(arguments[PRODUCT_CODE_INDEX]);
-        instructionMessage.setQuantity(Integer.parseInt(arguments[QUANTITY_INDEX]));
-        instructionMessage.setUom(Integer.parseInt(arguments[UOM_INDEX]));
-        instructionMessage.setTimestamp(LocalDateTime.parse(arguments[TIMESTAMP_INDEX], DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN)));
-        return instructionMessage;
+    private static String argument(CharSequence message, int argumentIndex) {
+        int start = 0;
+        for (int index = 0; index < argumentIndex; index++) {
+            start = nextDelimiter(message, start, message.length()) + 1;
+        }
+        return text(message, start, nextDelimiter(message, start, message.length()));
+    }
+
+    private static NumberFormatException numberFormatException(String argument) {
+        return new NumberFormatException("For input string: \"" + argument + "\"");
+    }
+
+    private static DateTimeParseException timestampParseException(String timestamp) {
+        int errorIndex = timestampFormatErrorIndex(timestamp, 0, timestamp.length());
+        if (errorIndex == VALID_FORMAT) {
+            return new DateTimeParseException("Text '" + timestamp + "' could not be parsed: field value is out of range", timestamp, 0);
+        }
+        return new DateTimeParseException("Text '" + timestamp + "' could not be parsed at index " + errorIndex, timestamp, errorIndex);
+    }
+
+    private static int skipTrailingDelimiters(CharSequence message, int start, int end) {
+        while (end > start && message.charAt(end - 1) == INPUT_MESSAGE_ARGUMENTS_DELIMITER) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int countArguments(CharSequence message, int start, int end) {
+        if (start == end) {
+            return 0;
+        }
+        int numberOfArguments = 1;
+        for (int index = start; index < end; index++) {
+            if (message.charAt(index) == INPUT_MESSAGE_ARGUMENTS_DELIMITER) {
+                numberOfArguments++;
+            }
+        }
+        return numberOfArguments;
+    }
+
+    private static int nextDelimiter(CharSequence message, int start, int end) {
+        int index = start;
+        while (index < end && message.charAt(index) != INPUT_MESSAGE_ARGUMENTS_DELIMITER) {
+            index++;
+        }
+        return index;
+    }
+
+    private static boolean regionEquals(CharSequence message, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int index = 0; index < expected.length(); index++) {
+            if (message.charAt(start + index) != expected.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String instructionType(CharSequence message, int start, int end) {
+        int index = PackedInstructionMessage.instructionTypeIndex(message, start, end);
+        return index == PackedInstructionMessage.INVALID_INDEX ? text(message, start, end) : PackedInstructionMessage.instructionType(index);
+    }
+
+    private static String productCode(CharSequence message, int start, int end) {
+        int index = PackedInstructionMessage.productCodeIndex(message, start, end);
+        return index == PackedInstructionMessage.INVALID_INDEX ? text(message, start, end) : PackedInstructionMessage.productCode(index);
+    }
+
+    private static String text(CharSequence message, int start, int end) {
+        return message.subSequence(start, end).toString();
+    }
+
+    private static long parseInt(CharSequence message, int start, int end) {
+        int index = start;
+        boolean negative = false;
+        if (index < end && (message.charAt(index) == '-' || message.charAt(index) == '+')) {
+            negative = message.charAt(index) == '-';
+            index++;
+        }
+        if (index == end) {
+            return INVALID_NUMBER;
+        }
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; index < end; index++) {
+            int digit = message.charAt(index) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID_NUMBER;
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                return INVALID_NUMBER;
+            }
+        }
+        return negative ? -value : value;
+    }
+
+    private static LocalDateTime parseTimestamp(CharSequence message, int start, int end) {
+        if (timestampFormatErrorIndex(message, start, end) != VALID_FORMAT) {
+            return null;
+        }
+        int year = digits(message, start + YEAR_OFFSET, 4);
+        int month = digits(message, start + MONTH_OFFSET, 2);
+        int day = digits(message, start + DAY_OFFSET, 2);
+        int hour = digits(message, start + HOUR_OFFSET, 2);
+        int minute = digits(message, start + MINUTE_OFFSET, 2);
+        int second = digits(message, start + SECOND_OFFSET, 2);
+        int millis = digits(message, start + MILLIS_OFFSET, 3);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31 || minute > 59 || second > 59) {
+            return null;
+        }
+        day = Math.min(day, Month.of(month).length(Year.isLeap(year)));
+        if (hour == END_OF_DAY_HOUR && minute == 0 && second == 0 && millis == 0) {
+            return LocalDateTime.of(year, month, day, 0, 0).plusDays(1);
+        }
+        if (hour >= END_OF_DAY_HOUR) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, millis * NANOS_PER_MILLI);
+    }
+
+    private static int timestampFormatErrorIndex(CharSequence message, int start, int end) {
+        int length = end - start;
+        for (int index = 0; index < TIMESTAMP_FORMAT.length(); index++) {
+            char expected = TIMESTAMP_FORMAT.charAt(index);
+            char actual = index < length ? message.charAt(start + index) : 0;
+            boolean matches = expected == TIMESTAMP_DIGIT ? actual >= '0' && actual <= '9' : actual == expected;
+            if (!matches) {
+                return index;
+            }
+        }
+        return length == TIMESTAMP_FORMAT.length() ? VALID_FORMAT : TIMESTAMP_FORMAT.length();
+    }
+
+    private static int digits(CharSequence message, int start, int count) {
+        int value = 0;
+        for (int index = start; index < start + count; index++) {
+            value = value * 10 + message.charAt(index) - '0';
+        }
+        return value;
+    }
+
+    private static final class ByteArrayAsciiSequence implements CharSequence {
+
+        private final byte[] bytes;
+        private final int offset;
+        private final int length;
+
+        private ByteArrayAsciiSequence(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(bytes, offset + start, end - start, StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length).toString();
+        }
+
+    }
+
+    private static final class ByteBufferAsciiSequence implements CharSequence {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        private ByteBufferAsciiSequence(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            char[] chars = new char[end - start];
+            for (int index = start; index < end; index++) {
+                chars[index - start] = charAt(index);
+            }
+            return new String(chars);
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length).toString();
+        }
+
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.epam.instruction.message.support;
+
+public final class InstructionMessageViolations {
+
+    public static final int NONE = 0;
+
+    public static final int EMPTY_MESSAGE = 1;
+    public static final int ARGUMENTS_NUMBER = 1 << 1;
+    public static final int MESSAGE_HEADER = 1 << 2;
+    public static final int QUANTITY_FORMAT = 1 << 3;
+    public static final int UOM_FORMAT = 1 << 4;
+    public static final int TIMESTAMP_FORMAT = 1 << 5;
+
+    public static final int INSTRUCTION_MESSAGE_NULL = 1 << 6;
+    public static final int INSTRUCTION_TYPE = 1 << 7;
+    public static final int PRODUCT_CODE = 1 << 8;
+    public static final int QUANTITY = 1 << 9;
+    public static final int UOM = 1 << 10;
+    public static final int TIMESTAMP = 1 << 11;
+
+    public static final int QUEUE_REJECTED = 1 << 12;
+
+    public static final int PARSING_VIOLATIONS = EMPTY_MESSAGE | ARGUMENTS_NUMBER | MESSAGE_HEADER
+            | QUANTITY_FORMAT | UOM_FORMAT | TIMESTAMP_FORMAT;
+    public static final int VALIDATION_VIOLATIONS = INSTRUCTION_MESSAGE_NULL | INSTRUCTION_TYPE | PRODUCT_CODE
+            | QUANTITY | UOM | TIMESTAMP;
+
+    private static final String[] DESCRIPTIONS = {
+            "The message is empty",
+            "Incorrect number of arguments in message",
+            "Message header is missing or invalid",
+            "Quantity is not an integer",
+            "UOM is not an integer",
+            "Timestamp is not in required format",
+            "Instruction message is null",
+            "Instruction type is not valid",
+            "Product code is not valid",
+            "Quantity is not valid",
+            "UOM is not valid",
+            "Timestamp is not valid",
+            "Message was not accepted by the queue"
+    };
+    private static final String DESCRIPTIONS_DELIMITER = System.lineSeparator();
+
+    private InstructionMessageViolations() {
+    }
+
+    public static String describe(int violations) {
+        StringBuilder description = new StringBuilder();
+        for (int bit = 0; bit < DESCRIPTIONS.length; bit++) {
+            if ((violations & (1 << bit)) != 0) {
+                description.append(DESCRIPTIONS_DELIMITER);
+                description.append(DESCRIPTIONS[bit]);
+            }
+        }
+        return description.toString();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.epam.instruction.message.support;
+
+public class SystemEpochClock implements EpochClock {
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.epam.instruction.message.support;
+
+public enum ValidationMode {
+
+    AGGREGATE_ERRORS,
+    FAIL_FAST
+
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.epam.instruction.message.support.exceptions;
+
+public class InstructionQueueOverflowException extends RuntimeException {
+
+    public InstructionQueueOverflowException(String message) {
+        super(message);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.epam.instruction.message;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+public class PackedInstructionMessageTest {
+
+    private static final String VALID_INSTRUCTION_TYPE = "D";
+    private static final String VALID_PRODUCT_CODE = "ZY09";
+    private static final int MAX_QUANTITY = Integer.MAX_VALUE;
+    private static final int MAX_UOM = 255;
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000);
+    private static final LocalDateTime BEFORE_UNIX_EPOCH = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000);
+
+    private InstructionMessage instructionMessage;
+
+    @Before
+    public void setUp() {
+        instructionMessage = new InstructionMessage();
+        instructionMessage.setInstructionType(VALID_INSTRUCTION_TYPE);
+        instructionMessage.setProductCode(VALID_PRODUCT_CODE);
+        instructionMessage.setQuantity(MAX_QUANTITY);
+        instructionMessage.setUom(MAX_UOM);
+        instructionMessage.setTimestamp(TIMESTAMP);
+    }
+
+    @Test
+    public void shouldRestoreAllFieldsIfPackedMessageUnpacked() {
+        long attributes = PackedInstructionMessage.packAttributes(instructionMessage);
+        long timestamp = PackedInstructionMessage.packTimestamp(instructionMessage.getTimestamp());
+
+        InstructionMessage result = PackedInstructionMessage.unpack(attributes, timestamp);
+
+        assertEquals(VALID_INSTRUCTION_TYPE, result.getInstructionType());
+        assertEquals(VALID_PRODUCT_CODE, result.getProductCode());
+        assertEquals(MAX_QUANTITY, result.getQuantity());
+        assertEquals(MAX_UOM, result.getUom());
+        assertEquals(TIMESTAMP, result.getTimestamp());
+    }
+
+    @Test
+    public void shouldRestoreTimestampBeforeUnixEpoch() {
+        long timestamp = PackedInstructionMessage.packTimestamp(BEFORE_UNIX_EPOCH);
+
+        assertEquals(BEFORE_UNIX_EPOCH, PackedInstructionMessage.unpackTimestamp(timestamp));
+    }
+
+    @Test
+    public void shouldMapEveryProductCodeToDistinctIndexAndBack() {
+        assertEquals(0, PackedInstructionMessage.productCodeIndex("AA00"));
+        assertEquals(PackedInstructionMessage.PRODUCT_CODES - 1, PackedInstructionMessage.productCodeIndex("ZZ99"));
+        for (int index = 0; index < PackedInstructionMessage.PRODUCT_CODES; index++) {
+            assertEquals(index, PackedInstructionMessage.productCodeIndex(PackedInstructionMessage.productCode(index)));
+        }
+    }
+
+    @Test
+    public void shouldReturnInvalidIndexIfProductCodeDoesNotMatchFormat() {
+        assertEquals(PackedInstructionMessage.INVALID_INDEX, PackedInstructionMessage.productCodeIndex("ab12"));
+        assertEquals(PackedInstructionMessage.INVALID_INDEX, PackedInstructionMessage.productCodeIndex("AB1"));
+        assertEquals(PackedInstructionMessage.INVALID_INDEX, PackedInstructionMessage.productCodeIndex(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfPackMessageWithUomOutOfRange() {
+        instructionMessage.setUom(MAX_UOM + 1);
+
+        PackedInstructionMessage.packAttributes(instructionMessage);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfPackMessageWithUnknownInstructionType() {
+        instructionMessage.setInstructionType("E");
+
+        PackedInstructionMessage.packAttributes(instructionMessage);
+    }
+
+    @Test
+    public void shouldReturnCanonicalInstancesForTypesAndProductCodes() {
+        int productCodeIndex = PackedInstructionMessage.productCodeIndex("XY12");
+
+        assertSame(PackedInstructionMessage.productCode(productCodeIndex), PackedInstructionMessage.productCode(productCodeIndex));
+        assertSame(PackedInstructionMessage.instructionType(2), PackedInstructionMessage.instructionType(2));
+        assertEquals("XY12", PackedInstructionMessage.productCode(productCodeIndex));
+    }
+
+    @Test
+    public void shouldCanonicalizeValidTypeAndProductCodeInInstructionMessage() {
+        InstructionMessage first = new InstructionMessage();
+        InstructionMessage second = new InstructionMessage();
+        first.setInstructionType(new String("B"));
+        first.setProductCode(new String("XY12"));
+        second.setInstructionType(new String("B"));
+        second.setProductCode(new String("XY12"));
+
+        assertSame(first.getInstructionType(), second.getInstructionType());
+        assertSame(first.getProductCode(), second.getProductCode());
+        assertEquals(1, first.getInstructionTypeIndex());
+        assertEquals(PackedInstructionMessage.productCodeIndex("XY12"), first.getProductCodeIndex());
+    }
+
+    @Test
+    public void shouldKeepInvalidTypeAndProductCodeAsGiven() {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType("E");
+        message.setProductCode("xy12");
+
+        assertEquals("E", message.getInstructionType());
+        assertEquals("xy12", message.getProductCode());
+        assertEquals(PackedInstructionMessage.INVALID_INDEX, message.getInstructionTypeIndex());
+        assertEquals(PackedInstructionMessage.INVALID_INDEX, message.getProductCodeIndex());
+    }
+
+}
\ No newline at end of file
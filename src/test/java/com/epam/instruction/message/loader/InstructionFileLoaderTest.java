@@ -0,0 +1,137 @@
+package com.epam.instruction.message.loader;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class InstructionFileLoaderTest {
+
+    private static final String INVALID_LINE = "InstructionMessage A B 5678 50 2015-03-05T10:04:56.012Z";
+    private static final String INCORRECT_LINE = "InstructionMessage A MZ89 5678";
+    private static final int SMALL_CHUNK_SIZE = 100;
+    private static final int PARALLELISM = 4;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+    private InstructionQueue queue = new InstructionQueue();
+    private InstructionFileLoader loader = new InstructionFileLoader(new InstructionMessageParser(),
+            new InstructionMessageValidator(), queue, pool, SMALL_CHUNK_SIZE);
+
+    private static String validLine(String type, int quantity) {
+        return "InstructionMessage " + type + " MZ89 " + quantity + " 50 2015-03-05T10:04:56.012Z";
+    }
+
+    private Path writeFile(String content) throws IOException {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldReturnEmptyReportIfFileIsEmpty() throws IOException {
+        LoadReport report = loader.load(writeFile(""));
+
+        assertEquals(0, report.getLines());
+        assertEquals(0, report.getAcceptedMessages());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldEnqueueMessagesInFileOrderAcrossChunks() throws IOException {
+        StringBuilder content = new StringBuilder();
+        int messages = 500;
+        for (int quantity = 1; quantity <= messages; quantity++) {
+            content.append(validLine(quantity % 2 == 0 ? "B" : "C", quantity)).append('\n');
+        }
+
+        LoadReport report = loader.load(writeFile(content.toString()));
+
+        assertEquals(messages, report.getLines());
+        assertEquals(messages, report.getAcceptedMessages());
+        assertEquals(0, report.getRejectedMessages());
+        for (int quantity = 2; quantity <= messages; quantity += 2) {
+            assertEquals(quantity, queue.dequeue().getQuantity());
+        }
+        for (int quantity = 1; quantity <= messages; quantity += 2) {
+            assertEquals(quantity, queue.dequeue().getQuantity());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldReportRejectedLineNumbersAndReasons() throws IOException {
+        String content = validLine("A", 1) + "\r\n"
+                + INVALID_LINE + "\n"
+                + "\n"
+                + validLine("A", 2) + "\n"
+                + INCORRECT_LINE + "\n"
+                + validLine("A", 3);
+
+        LoadReport report = loader.load(writeFile(content));
+
+        assertEquals(6, report.getLines());
+        assertEquals(3, report.getAcceptedMessages());
+        assertEquals(2, report.getRejectedMessages());
+        LineRejection first = report.getRejections().get(0);
+        assertEquals(2, first.getLineNumber());
+        assertEquals(InstructionMessageViolations.PRODUCT_CODE, first.getViolations());
+        assertEquals("Product code is not valid", first.getReason());
+        LineRejection second = report.getRejections().get(1);
+        assertEquals(5, second.getLineNumber());
+        assertEquals(InstructionMessageViolations.ARGUMENTS_NUMBER, second.getViolations());
+        InstructionMessage last = null;
+        while (!queue.isEmpty()) {
+            last = queue.dequeue();
+        }
+        assertEquals(3, last.getQuantity());
+    }
+
+    @Test
+    public void shouldReportQueueOverflowAsRejectionsWithoutEnqueueingPartialLoad() throws IOException {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(2, OverflowPolicy.REJECT);
+        InstructionFileLoader boundedLoader = new InstructionFileLoader(new InstructionMessageParser(),
+                new InstructionMessageValidator(), boundedQueue, pool, SMALL_CHUNK_SIZE);
+        StringBuilder content = new StringBuilder();
+        for (int quantity = 1; quantity <= 3; quantity++) {
+            content.append(validLine("A", quantity)).append('\n');
+        }
+        content.append(INCORRECT_LINE).append('\n').append(validLine("A", 4));
+
+        LoadReport report = boundedLoader.load(writeFile(content.toString()));
+
+        assertEquals(5, report.getLines());
+        assertEquals(0, report.getAcceptedMessages());
+        assertEquals(5, report.getRejectedMessages());
+        for (int index = 0; index < 5; index++) {
+            LineRejection rejection = report.getRejections().get(index);
+            assertEquals(index + 1, rejection.getLineNumber());
+            assertEquals(index == 3 ? InstructionMessageViolations.ARGUMENTS_NUMBER
+                    : InstructionMessageViolations.QUEUE_REJECTED, rejection.getViolations());
+        }
+        assertTrue(boundedQueue.isEmpty());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.epam.instruction.message.metrics;
+
+import com.epam.instruction.message.PackedInstructionMessage;
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.ExpiringInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.InstrumentedMessageQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.ValidationMode;
+import com.epam.instruction.message.support.exceptions.InstructionMessageValidationException;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class InstructionMessageMetricsTest {
+
+    private static final String VALID_INSTRUCTION_MESSAGE = "InstructionMessage A MZ89 5678 50 2015-03-05T10:04:56.012Z";
+    private static final String LOW_PRIORITY_INSTRUCTION_MESSAGE = "InstructionMessage D MZ89 5678 50 2015-03-05T10:04:56.012Z";
+    private static final String INVALID_INSTRUCTION_MESSAGE = "InstructionMessage A B 0 50 2015-03-05T10:04:56.012Z";
+    private static final String INCORRECT_INSTRUCTION_MESSAGE = "InstructionMessage A MZ89 5678 50";
+
+    private InstructionMessageMetrics metrics;
+    private InstrumentedMessageQueue queue;
+    private InstructionMessageReceiver receiver;
+
+    @Before
+    public void setUp() {
+        metrics = new InstructionMessageMetrics();
+        queue = new InstrumentedMessageQueue(new InstructionQueue(), metrics);
+        receiver = new InstructionMessageReceiver(new InstructionMessageParser(), new InstructionMessageValidator(), queue, metrics);
+    }
+
+    @Test
+    public void shouldRecordStageLatenciesForAcceptedMessages() {
+        receiver.receive(VALID_INSTRUCTION_MESSAGE);
+        receiver.tryReceive(VALID_INSTRUCTION_MESSAGE);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(2, snapshot.getParseLatency().getCount());
+        assertEquals(2, snapshot.getValidateLatency().getCount());
+        assertEquals(2, snapshot.getEnqueueLatency().getCount());
+    }
+
+    @Test
+    public void shouldCountRejectionsByRule() {
+        receiver.tryReceive(INVALID_INSTRUCTION_MESSAGE);
+        receiver.tryReceive(INCORRECT_INSTRUCTION_MESSAGE);
+        try {
+            receiver.receive(INVALID_INSTRUCTION_MESSAGE);
+            fail("Expected exception was not thrown");
+        } catch (InstructionMessageValidationException e) {
+            assertTrue(e.getMessage().contains("Product code is not valid"));
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        assertEquals(2L, (long) snapshot.getRejections().get("PRODUCT_CODE"));
+        assertEquals(2L, (long) snapshot.getRejections().get("QUANTITY"));
+        assertEquals(1L, (long) snapshot.getRejections().get("ARGUMENTS_NUMBER"));
+        assertEquals(0L, (long) snapshot.getRejections().get("UOM"));
+        assertEquals(0, snapshot.getEnqueueLatency().getCount());
+    }
+
+    @Test
+    public void shouldValidateRejectedMessageOnlyOnceIfClockMoves() {
+        long timestampMillis = PackedInstructionMessage.packTimestamp(LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000));
+        AtomicLong now = new AtomicLong(timestampMillis - 1);
+        InstructionMessageReceiver movingClockReceiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(ValidationMode.AGGREGATE_ERRORS, now::getAndIncrement), queue, metrics);
+
+        try {
+            movingClockReceiver.receive(VALID_INSTRUCTION_MESSAGE);
+            fail("Expected exception was not thrown");
+        } catch (InstructionMessageValidationException e) {
+            assertTrue(e.getMessage().contains("Timestamp is not valid"));
+        }
+
+        assertEquals(timestampMillis, now.get());
+        assertEquals(0, queue.count());
+        assertEquals(1L, (long) metrics.snapshot().getRejections().get("TIMESTAMP"));
+        assertEquals(1, metrics.snapshot().getValidateLatency().getCount());
+    }
+
+    @Test
+    public void shouldTrackQueueDepthAndResidencePerInstructionType() {
+        receiver.receiveAll(Arrays.asList(VALID_INSTRUCTION_MESSAGE, LOW_PRIORITY_INSTRUCTION_MESSAGE,
+                LOW_PRIORITY_INSTRUCTION_MESSAGE));
+
+        assertEquals(1L, (long) metrics.getQueueDepths().get("HIGH"));
+        assertEquals(0L, (long) metrics.getQueueDepths().get("MEDIUM"));
+        assertEquals(2L, (long) metrics.getQueueDepths().get("LOW"));
+
+        queue.dequeue();
+        queue.dequeue();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0L, (long) snapshot.getQueueDepths().get("HIGH"));
+        assertEquals(1L, (long) snapshot.getQueueDepths().get("LOW"));
+        assertEquals(1, snapshot.getResidenceLatency().get("A").getCount());
+        assertEquals(1, snapshot.getResidenceLatency().get("D").getCount());
+        assertEquals(0, snapshot.getResidenceLatency().get("C").getCount());
+    }
+
+    @Test
+    public void shouldExposeMetricsThroughMBean() throws Exception {
+        receiver.tryReceive(VALID_INSTRUCTION_MESSAGE);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName objectName = metrics.registerMBean("test");
+        try {
+            CompositeData parseLatency = (CompositeData) server.getAttribute(objectName, "ParseLatency");
+            assertEquals(1L, parseLatency.get("count"));
+        } finally {
+            server.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    public void shouldReleaseDepthAndResidenceOfMessagesEvictedByWrappedQueue() {
+        queue = new InstrumentedMessageQueue(new BoundedInstructionQueue(1, OverflowPolicy.EVICT_LOWEST_PRIORITY), metrics);
+        receiver = new InstructionMessageReceiver(new InstructionMessageParser(), new InstructionMessageValidator(), queue, metrics);
+        receiver.receive(LOW_PRIORITY_INSTRUCTION_MESSAGE);
+        receiver.receive(VALID_INSTRUCTION_MESSAGE);
+
+        assertEquals(1L, (long) metrics.getQueueDepths().get("HIGH"));
+        assertEquals(0L, (long) metrics.getQueueDepths().get("LOW"));
+
+        assertEquals("A", queue.dequeue().getInstructionType());
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0L, (long) snapshot.getQueueDepths().get("HIGH"));
+        assertEquals(1, snapshot.getResidenceLatency().get("A").getCount());
+        assertEquals(0, snapshot.getResidenceLatency().get("D").getCount());
+    }
+
+    @Test
+    public void shouldReleaseDepthAndResidenceOfMessagesExpiredByWrappedQueue() {
+        long timestampMillis = PackedInstructionMessage.packTimestamp(LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000));
+        AtomicLong now = new AtomicLong(timestampMillis);
+        queue = new InstrumentedMessageQueue(new ExpiringInstructionQueue(Collections.singletonMap("D", 100L),
+                (message, ageMillis) -> {
+                }, now::get), metrics);
+        receiver = new InstructionMessageReceiver(new InstructionMessageParser(), new InstructionMessageValidator(), queue, metrics);
+        receiver.receiveAll(Arrays.asList(LOW_PRIORITY_INSTRUCTION_MESSAGE, VALID_INSTRUCTION_MESSAGE,
+                LOW_PRIORITY_INSTRUCTION_MESSAGE));
+        now.addAndGet(200);
+
+        assertEquals(1, queue.count());
+        assertEquals(1L, (long) metrics.getQueueDepths().get("HIGH"));
+        assertEquals(0L, (long) metrics.getQueueDepths().get("LOW"));
+
+        receiver.receive(LOW_PRIORITY_INSTRUCTION_MESSAGE);
+        assertEquals(0L, (long) metrics.getQueueDepths().get("LOW"));
+        assertEquals("A", queue.dequeue().getInstructionType());
+        assertNull(queue.dequeue());
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0L, (long) snapshot.getQueueDepths().get("HIGH"));
+        assertEquals(1, snapshot.getResidenceLatency().get("A").getCount());
+        assertEquals(0, snapshot.getResidenceLatency().get("D").getCount());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.epam.instruction.message.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 64;
+
+    private LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void shouldReturnZerosIfNothingWasRecorded() {
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getP99());
+        assertEquals(0.0, snapshot.getMean(), 0.0);
+    }
+
+    @Test
+    public void shouldRecordSmallValuesExactly() {
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(50, snapshot.getP50());
+        assertEquals(99, snapshot.getP99());
+        assertEquals(50.5, snapshot.getMean(), 0.0);
+    }
+
+    @Test
+    public void shouldKeepPercentilesWithinRelativeErrorForLargeValues() {
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(500_000_000, snapshot.getP50(), 500_000_000 * MAX_RELATIVE_ERROR);
+        assertEquals(990_000_000, snapshot.getP99(), 990_000_000 * MAX_RELATIVE_ERROR);
+        assertEquals(999_000_000, snapshot.getP999(), 999_000_000 * MAX_RELATIVE_ERROR);
+        assertEquals(1_000_000_000, snapshot.getMax());
+    }
+
+    @Test
+    public void shouldMapEveryValueToBucketCoveringIt() {
+        for (long value = 0; value < 1 << 20; value += 7) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.highestValueOf(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.highestValueOf(bucket - 1) < value);
+        }
+    }
+
+    @Test
+    public void shouldRecordValueWithCount() {
+        histogram.record(10, 3);
+        histogram.record(20);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(4, snapshot.getCount());
+        assertEquals(10, snapshot.getP50());
+        assertEquals(20, snapshot.getP90());
+        assertEquals(12.5, snapshot.getMean(), 0.0);
+    }
+
+}
\ No newline at end of file
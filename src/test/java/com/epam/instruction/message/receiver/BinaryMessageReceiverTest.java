@@ -0,0 +1,93 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageCodec;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import com.epam.instruction.message.support.exceptions.InstructionMessageValidationException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class BinaryMessageReceiverTest {
+
+    private InstructionMessageParser parser = new InstructionMessageParser();
+    private InstructionMessageCodec codec = new InstructionMessageCodec();
+    private InstructionQueue queue = new InstructionQueue();
+    private BinaryMessageReceiver receiver = new BinaryMessageReceiver(codec, new InstructionMessageValidator(), queue);
+
+    private InstructionMessage message(String type, int quantity) {
+        return parser.parse("InstructionMessage " + type + " MZ89 " + quantity + " 50 2015-03-05T10:04:56.012Z");
+    }
+
+    @Test
+    public void shouldEnqueueReceivedFrameAndAdvanceBuffer() {
+        ByteBuffer frame = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+        codec.encode(message("A", 5), frame, 0);
+
+        receiver.receive(frame);
+
+        assertEquals(InstructionMessageCodec.RECORD_SIZE, frame.position());
+        assertEquals(5, queue.dequeue().getQuantity());
+    }
+
+    @Test(expected = InstructionMessageValidationException.class)
+    public void shouldThrowValidationExceptionIfFrameIsInvalid() {
+        ByteBuffer frame = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+        frame.putLong(0, 0L);
+        frame.putLong(Long.BYTES, 1L);
+
+        receiver.receive(frame);
+    }
+
+    @Test
+    public void shouldReportAcceptedAndRejectedFramesOfBatch() {
+        ByteBuffer frames = ByteBuffer.allocate(3 * InstructionMessageCodec.RECORD_SIZE);
+        codec.encode(message("C", 1), frames);
+        frames.putLong(0L).putLong(0L);
+        codec.encode(message("A", 2), frames);
+        frames.flip();
+
+        ReceiveReport report = receiver.receiveAll(frames);
+
+        assertEquals(2, report.getAcceptedCount());
+        assertArrayEquals(new int[]{1}, report.getRejectedIndices());
+        assertEquals(InstructionMessageViolations.QUANTITY | InstructionMessageViolations.TIMESTAMP, report.getRejectedViolations()[0]);
+        assertEquals(2, queue.dequeue().getQuantity());
+        assertEquals(1, queue.dequeue().getQuantity());
+    }
+
+    @Test
+    public void shouldReturnViolationsWithoutEnqueueingIfTryReceiveInvalidFrame() {
+        ByteBuffer frame = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+
+        int result = receiver.tryReceive(frame, 0);
+
+        assertNotEquals(InstructionMessageViolations.NONE, result);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfBatchContainsPartialFrame() {
+        receiver.receiveAll(ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE + 1));
+    }
+
+    @Test
+    public void shouldReturnQueueRejectedWithoutThrowingIfTryReceiveOverflowsQueue() {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        BinaryMessageReceiver boundedReceiver = new BinaryMessageReceiver(codec, new InstructionMessageValidator(), boundedQueue);
+        ByteBuffer frame = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+        codec.encode(message("A", 5), frame, 0);
+
+        assertEquals(InstructionMessageViolations.NONE, boundedReceiver.tryReceive(frame, 0));
+        assertEquals(InstructionMessageViolations.QUEUE_REJECTED, boundedReceiver.tryReceive(frame, 0));
+        assertEquals(1, boundedQueue.count());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class DuplicateMessageFilterTest {
+
+    private static final int CAPACITY = 32;
+    private static final long WINDOW_MILLIS = 1000;
+    private static final String VALID_INSTRUCTION_MESSAGE = "InstructionMessage A MZ89 5678 50 2015-03-05T10:04:56.012Z";
+
+    private AtomicLong now = new AtomicLong(1_000_000);
+    private DuplicateMessageFilter filter = new DuplicateMessageFilter(CAPACITY, WINDOW_MILLIS, now::get);
+
+    private static InstructionMessage message(int quantity) {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType("B");
+        message.setProductCode("MZ89");
+        message.setQuantity(quantity);
+        message.setUom(50);
+        message.setTimestamp(LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000));
+        return message;
+    }
+
+    @Test
+    public void shouldDetectSameMessageIdentityAsDuplicate() {
+        assertFalse(filter.isDuplicate(message(1)));
+        assertTrue(filter.isDuplicate(message(1)));
+        assertFalse(filter.isDuplicate(message(2)));
+
+        assertEquals(1, filter.getHits());
+        assertEquals(2, filter.getMisses());
+        assertEquals(2, filter.size());
+    }
+
+    @Test
+    public void shouldForgetMessagesOlderThanWindow() {
+        filter.isDuplicate(message(1));
+        now.addAndGet(WINDOW_MILLIS - 1);
+        assertTrue(filter.isDuplicate(message(1)));
+
+        now.addAndGet(1);
+
+        assertFalse(filter.isDuplicate(message(1)));
+    }
+
+    @Test
+    public void shouldEvictOldestMessagesWhenCapacityIsReached() {
+        int messages = CAPACITY * 100;
+        for (int quantity = 1; quantity <= messages; quantity++) {
+            assertFalse(filter.isDuplicate(message(quantity)));
+        }
+
+        assertTrue(filter.size() <= CAPACITY);
+        assertFalse(filter.isDuplicate(message(1)));
+        assertTrue(filter.isDuplicate(message(messages)));
+    }
+
+    @Test
+    public void shouldEnqueueDuplicateLineOnlyOnceInReceiver() {
+        InstructionQueue queue = new InstructionQueue();
+        InstructionMessageReceiver receiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), queue, null, filter);
+
+        receiver.receive(VALID_INSTRUCTION_MESSAGE);
+        int violations = receiver.tryReceive(VALID_INSTRUCTION_MESSAGE);
+        ReceiveReport report = receiver.receiveAll(Arrays.asList(VALID_INSTRUCTION_MESSAGE, VALID_INSTRUCTION_MESSAGE));
+
+        assertEquals(InstructionMessageViolations.NONE, violations);
+        assertEquals(2, report.getAcceptedCount());
+        assertEquals(1, queue.count());
+        assertEquals(3, filter.getHits());
+    }
+
+    @Test
+    public void shouldForgetMessageSoItIsNoLongerDuplicate() {
+        filter.isDuplicate(message(1));
+        filter.isDuplicate(message(2));
+
+        filter.forget(message(1));
+
+        assertEquals(1, filter.size());
+        assertFalse(filter.isDuplicate(message(1)));
+        assertTrue(filter.isDuplicate(message(2)));
+    }
+
+    @Test
+    public void shouldAcceptRetryOfLineThatQueueFailedToEnqueue() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        InstructionMessageReceiver receiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), queue, null, filter);
+        queue.enqueue(message(1));
+
+        try {
+            receiver.receive(VALID_INSTRUCTION_MESSAGE);
+            fail("Expected exception was not thrown");
+        } catch (InstructionQueueOverflowException e) {
+            queue.dequeue();
+        }
+        receiver.receive(VALID_INSTRUCTION_MESSAGE);
+
+        assertEquals(1, queue.count());
+        assertEquals(0, filter.getHits());
+    }
+
+    @Test
+    public void shouldAcceptRetryOfBatchThatQueueFailedToEnqueue() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        InstructionMessageReceiver receiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), queue, null, filter);
+        queue.enqueue(message(1));
+
+        ReceiveReport rejected = receiver.receiveAll(Arrays.asList(VALID_INSTRUCTION_MESSAGE));
+        queue.dequeue();
+        ReceiveReport accepted = receiver.receiveAll(Arrays.asList(VALID_INSTRUCTION_MESSAGE));
+
+        assertEquals(1, rejected.getRejectedCount());
+        assertEquals(1, accepted.getAcceptedCount());
+        assertEquals(1, queue.count());
+    }
+
+}
\ No newline at end of file
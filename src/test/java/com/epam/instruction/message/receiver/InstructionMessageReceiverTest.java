@@ -1,13 +1,21 @@
 package com.epam.instruction.message.receiver;
 
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
 import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
 import com.epam.instruction.message.support.InstructionMessageParser;
 import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
 import com.epam.instruction.message.support.exceptions.InstructionMessageParsingException;
 import com.epam.instruction.message.support.exceptions.InstructionMessageValidationException;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class InstructionMessageReceiverTest {
@@ -74,4 +82,72 @@ public class InstructionMessageReceiverTest {
         }
     }
 
+    @Test
+    public void shouldEnqueueAcceptedMessagesAndReportRejectedIndicesIfBatchReceived() {
+        List<String> batch = Arrays.asList(VALID_INSTRUCTION_MESSAGE, INCORRECT_INSTRUCTION_MESSAGE,
+                VALID_INSTRUCTION_MESSAGE, INVALID_INSTRUCTION_MESSAGE);
+
+        ReceiveReport report = receiver.receiveAll(batch);
+
+        assertArrayEquals(new int[]{0, 2}, report.getAcceptedIndices());
+        assertArrayEquals(new int[]{1, 3}, report.getRejectedIndices());
+        assertArrayEquals(new int[]{InstructionMessageViolations.ARGUMENTS_NUMBER, InstructionMessageViolations.PRODUCT_CODE},
+                report.getRejectedViolations());
+        assertEquals(2, queue.count());
+    }
+
+    @Test
+    public void shouldReportWholeBatchAsRejectedIfQueueCanNotAdmitIt() {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        MessageReceiver boundedReceiver = new InstructionMessageReceiver(parser, validator, boundedQueue);
+        List<String> batch = Arrays.asList(VALID_INSTRUCTION_MESSAGE, INCORRECT_INSTRUCTION_MESSAGE, VALID_INSTRUCTION_MESSAGE);
+
+        ReceiveReport report = boundedReceiver.receiveAll(batch);
+
+        assertEquals(0, report.getAcceptedCount());
+        assertArrayEquals(new int[]{0, 1, 2}, report.getRejectedIndices());
+        assertArrayEquals(new int[]{InstructionMessageViolations.QUEUE_REJECTED, InstructionMessageViolations.ARGUMENTS_NUMBER,
+                InstructionMessageViolations.QUEUE_REJECTED}, report.getRejectedViolations());
+        assertTrue(boundedQueue.isEmpty());
+    }
+
+    @Test
+    public void shouldReportIndicesRelativeToOffsetIfBatchReceivedFromArray() {
+        String[] batch = {INVALID_INSTRUCTION_MESSAGE, VALID_INSTRUCTION_MESSAGE, INCORRECT_INSTRUCTION_MESSAGE, VALID_INSTRUCTION_MESSAGE};
+
+        ReceiveReport report = receiver.receiveAll(batch, 1, 2);
+
+        assertEquals(1, report.getAcceptedCount());
+        assertArrayEquals(new int[]{0}, report.getAcceptedIndices());
+        assertArrayEquals(new int[]{1}, report.getRejectedIndices());
+        assertEquals(1, queue.count());
+    }
+
+    @Test
+    public void shouldReturnNoViolationsAndAddElementIfTryReceiveCorrectAndValidInput() {
+        int result = receiver.tryReceive(VALID_INSTRUCTION_MESSAGE);
+
+        assertEquals(InstructionMessageViolations.NONE, result);
+        assertEquals(1, queue.count());
+    }
+
+    @Test
+    public void shouldReturnViolationsWithoutThrowingIfTryReceiveIncorrectOrInvalidInput() {
+        assertEquals(InstructionMessageViolations.ARGUMENTS_NUMBER, receiver.tryReceive(INCORRECT_INSTRUCTION_MESSAGE));
+        assertEquals(InstructionMessageViolations.PRODUCT_CODE, receiver.tryReceive(INVALID_INSTRUCTION_MESSAGE));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnQueueRejectedWithoutThrowingIfTryReceiveOverflowsQueue() {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        InstructionMessageReceiver boundedReceiver = new InstructionMessageReceiver(parser, validator, boundedQueue);
+        ByteBuffer line = ByteBuffer.wrap(VALID_INSTRUCTION_MESSAGE.getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(InstructionMessageViolations.NONE, boundedReceiver.tryReceive(VALID_INSTRUCTION_MESSAGE));
+        assertEquals(InstructionMessageViolations.QUEUE_REJECTED, boundedReceiver.tryReceive(VALID_INSTRUCTION_MESSAGE));
+        assertEquals(InstructionMessageViolations.QUEUE_REJECTED, boundedReceiver.tryReceive(line, 0, line.remaining()));
+        assertEquals(1, boundedQueue.count());
+    }
+
 }
\ No newline at end of file
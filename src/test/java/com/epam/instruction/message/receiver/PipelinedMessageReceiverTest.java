@@ -0,0 +1,155 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.InstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+public class PipelinedMessageReceiverTest {
+
+    private static final String INVALID_INSTRUCTION_MESSAGE = "InstructionMessage A B 5678 50 2015-03-05T10:04:56.012Z";
+    private static final int WORKERS = 4;
+    private static final int RING_SIZE = 64;
+
+    private InstructionQueue queue = new InstructionQueue();
+    private List<Long> rejectedSequences = new ArrayList<>();
+    private List<Integer> rejectedViolations = new ArrayList<>();
+    private PipelinedMessageReceiver receiver = new PipelinedMessageReceiver(new InstructionMessageParser(),
+            new InstructionMessageValidator(), queue, WORKERS, RING_SIZE, (sequence, message, violations) -> {
+        rejectedSequences.add(sequence);
+        rejectedViolations.add(violations);
+    });
+
+    private static String validMessage(String type, int quantity) {
+        return "InstructionMessage " + type + " MZ89 " + quantity + " 50 2015-03-05T10:04:56.012Z";
+    }
+
+    @After
+    public void tearDown() {
+        receiver.close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfRingSizeIsNotPowerOfTwo() {
+        new PipelinedMessageReceiver(new InstructionMessageParser(), new InstructionMessageValidator(), queue, WORKERS, 100,
+                (sequence, message, violations) -> {
+                });
+    }
+
+    @Test
+    public void shouldEnqueueMessagesInSubmissionOrder() {
+        receiver.start();
+        int messages = RING_SIZE * 50;
+
+        for (int quantity = 1; quantity <= messages; quantity++) {
+            receiver.submit(validMessage("C", quantity));
+        }
+        receiver.flush();
+
+        assertEquals(messages, receiver.getAcceptedMessages());
+        for (int quantity = 1; quantity <= messages; quantity++) {
+            assertEquals(quantity, queue.dequeue().getQuantity());
+        }
+    }
+
+    @Test
+    public void shouldReportRejectedMessagesInSubmissionOrder() {
+        receiver.start();
+
+        receiver.submit(validMessage("A", 1));
+        receiver.submit(INVALID_INSTRUCTION_MESSAGE);
+        receiver.submit(validMessage("A", 2));
+        receiver.submit("InstructionMessage");
+        receiver.flush();
+
+        assertEquals(2, receiver.getAcceptedMessages());
+        assertEquals(2, receiver.getRejectedMessages());
+        assertEquals(2, queue.count());
+        assertEquals(1L, (long) rejectedSequences.get(0));
+        assertEquals(3L, (long) rejectedSequences.get(1));
+        assertEquals(InstructionMessageViolations.PRODUCT_CODE, (int) rejectedViolations.get(0));
+        assertEquals(InstructionMessageViolations.ARGUMENTS_NUMBER, (int) rejectedViolations.get(1));
+    }
+
+    @Test
+    public void shouldAcceptSubmissionsFromConcurrentProducers() throws InterruptedException {
+        receiver.start();
+        int producers = 4;
+        int messagesPerProducer = 2000;
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int producer = 0; producer < producers; producer++) {
+            new Thread(() -> {
+                for (int index = 0; index < messagesPerProducer; index++) {
+                    receiver.submit(validMessage("B", index + 1));
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        receiver.flush();
+
+        assertEquals(producers * messagesPerProducer, receiver.getSubmittedMessages());
+        assertEquals(producers * messagesPerProducer, queue.count());
+    }
+
+    @Test
+    public void shouldReportQueueFailureAsRejectionAndKeepSequencing() {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        PipelinedMessageReceiver boundedReceiver = new PipelinedMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), boundedQueue, WORKERS, RING_SIZE, (sequence, message, violations) -> {
+            rejectedSequences.add(sequence);
+            rejectedViolations.add(violations);
+        });
+        boundedReceiver.start();
+
+        boundedReceiver.submit(validMessage("A", 1));
+        boundedReceiver.submit(validMessage("A", 2));
+        boundedReceiver.flush();
+        boundedQueue.dequeue();
+        boundedReceiver.submit(validMessage("A", 3));
+        boundedReceiver.close();
+
+        assertEquals(2, boundedReceiver.getAcceptedMessages());
+        assertEquals(1, boundedReceiver.getRejectedMessages());
+        assertEquals(1L, (long) rejectedSequences.get(0));
+        assertEquals(InstructionMessageViolations.QUEUE_REJECTED, (int) rejectedViolations.get(0));
+        assertEquals(3, boundedQueue.dequeue().getQuantity());
+    }
+
+    @Test
+    public void shouldKeepSequencingIfRejectionListenerFails() {
+        PipelinedMessageReceiver failingReceiver = new PipelinedMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), queue, WORKERS, RING_SIZE, (sequence, message, violations) -> {
+            throw new IllegalStateException("Listener failure");
+        });
+        failingReceiver.start();
+
+        failingReceiver.submit(INVALID_INSTRUCTION_MESSAGE);
+        failingReceiver.submit(validMessage("A", 1));
+        failingReceiver.close();
+
+        assertEquals(1, failingReceiver.getListenerFailures());
+        assertEquals(1, failingReceiver.getRejectedMessages());
+        assertEquals(1, queue.count());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowExceptionIfSubmittedAfterClose() {
+        receiver.start();
+        receiver.close();
+
+        receiver.submit(validMessage("A", 1));
+    }
+
+}
\ No newline at end of file
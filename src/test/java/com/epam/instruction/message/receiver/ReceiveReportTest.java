@@ -0,0 +1,40 @@
+package com.epam.instruction.message.receiver;
+
+import com.epam.instruction.message.support.InstructionMessageViolations;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ReceiveReportTest {
+
+    @Test
+    public void shouldKeepRecordingRejectionsAfterRejectingEmptyAcceptedSet() {
+        ReceiveReport report = new ReceiveReport();
+
+        report.rejectAccepted(InstructionMessageViolations.QUEUE_REJECTED);
+        report.rejected(0, InstructionMessageViolations.QUANTITY);
+        report.rejected(1, InstructionMessageViolations.UOM);
+
+        assertEquals(2, report.getRejectedCount());
+        assertArrayEquals(new int[]{0, 1}, report.getRejectedIndices());
+        assertArrayEquals(new int[]{InstructionMessageViolations.QUANTITY, InstructionMessageViolations.UOM},
+                report.getRejectedViolations());
+    }
+
+    @Test
+    public void shouldMergeAcceptedIntoRejectedInIndexOrder() {
+        ReceiveReport report = new ReceiveReport();
+        report.accepted(0);
+        report.rejected(1, InstructionMessageViolations.QUANTITY);
+        report.accepted(2);
+
+        report.rejectAccepted(InstructionMessageViolations.QUEUE_REJECTED);
+        report.rejected(3, InstructionMessageViolations.UOM);
+
+        assertEquals(0, report.getAcceptedCount());
+        assertArrayEquals(new int[]{0, 1, 2, 3}, report.getRejectedIndices());
+        assertArrayEquals(new int[]{InstructionMessageViolations.QUEUE_REJECTED, InstructionMessageViolations.QUANTITY,
+                InstructionMessageViolations.QUEUE_REJECTED, InstructionMessageViolations.UOM}, report.getRejectedViolations());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.epam.instruction.message.server;
+
+import com.epam.instruction.message.receiver.InstructionMessageReceiver;
+import com.epam.instruction.message.storage.BoundedInstructionQueue;
+import com.epam.instruction.message.storage.ConcurrentInstructionQueue;
+import com.epam.instruction.message.storage.OverflowPolicy;
+import com.epam.instruction.message.support.InstructionMessageParser;
+import com.epam.instruction.message.support.InstructionMessageValidator;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.*;
+
+public class InstructionMessageServerTest {
+
+    private static final String VALID_LINE = "InstructionMessage A MZ89 5678 50 2015-03-05T10:04:56.012Z\n";
+    private static final String INVALID_LINE = "InstructionMessage A B 5678 50 2015-03-05T10:04:56.012Z\n";
+    private static final String INCORRECT_LINE = "InstructionMessage A MZ89 5678\r\n";
+    private static final int CONNECTIONS = 2000;
+    private static final int SELECTOR_THREADS = 4;
+    private static final int UNBOUNDED_QUEUE_DEPTH = Integer.MAX_VALUE;
+    private static final long TIMEOUT_MILLIS = 30_000;
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private ConcurrentInstructionQueue queue = new ConcurrentInstructionQueue();
+    private InstructionMessageServer server;
+
+    private InstructionMessageServer startServer(int maxQueueDepth) throws IOException {
+        InstructionMessageReceiver receiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), queue);
+        server = new InstructionMessageServer(receiver, queue, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                SELECTOR_THREADS, maxQueueDepth);
+        server.start();
+        return server;
+    }
+
+    private SocketChannel connect() throws IOException {
+        return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+    }
+
+    private void write(SocketChannel channel, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Condition was not met in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    public void shouldReceiveNewlineFramedMessagesFromThousandsOfConcurrentConnections() throws Exception {
+        startServer(UNBOUNDED_QUEUE_DEPTH);
+        List<SocketChannel> clients = new ArrayList<>();
+        try {
+            for (int index = 0; index < CONNECTIONS; index++) {
+                clients.add(connect());
+            }
+            int half = VALID_LINE.length() / 2;
+            for (SocketChannel client : clients) {
+                write(client, VALID_LINE.substring(0, half));
+            }
+            for (SocketChannel client : clients) {
+                write(client, VALID_LINE.substring(half) + VALID_LINE);
+            }
+
+            awaitCondition(() -> server.getAcceptedMessages() == 2 * CONNECTIONS);
+            assertEquals(2 * CONNECTIONS, queue.count());
+            assertEquals(0, server.getRejectedMessages());
+        } finally {
+            for (SocketChannel client : clients) {
+                client.close();
+            }
+        }
+        awaitCondition(() -> server.getOpenConnections() == 0);
+    }
+
+    @Test
+    public void shouldRejectIncorrectAndInvalidLinesAndAcceptLastLineWithoutNewline() throws Exception {
+        startServer(UNBOUNDED_QUEUE_DEPTH);
+        try (SocketChannel client = connect()) {
+            write(client, INVALID_LINE + INCORRECT_LINE + "\r\n" + VALID_LINE.trim());
+        }
+
+        awaitCondition(() -> server.getAcceptedMessages() + server.getRejectedMessages() == 3);
+        assertEquals(1, server.getAcceptedMessages());
+        assertEquals(2, server.getRejectedMessages());
+        assertEquals(1, queue.count());
+    }
+
+    @Test
+    public void shouldRejectLineLongerThanReadBufferAndKeepReadingNextLines() throws Exception {
+        startServer(UNBOUNDED_QUEUE_DEPTH);
+        StringBuilder longLine = new StringBuilder();
+        while (longLine.length() < 10_000) {
+            longLine.append("InstructionMessage ");
+        }
+        try (SocketChannel client = connect()) {
+            write(client, longLine + "\n" + VALID_LINE);
+
+            awaitCondition(() -> server.getAcceptedMessages() == 1);
+        }
+        assertEquals(1, server.getRejectedMessages());
+    }
+
+    @Test
+    public void shouldStopReadingWhileQueueSaturatedAndResumeWhenDrained() throws Exception {
+        int maxQueueDepth = 10;
+        int messages = 500;
+        startServer(maxQueueDepth);
+        StringBuilder batch = new StringBuilder();
+        for (int index = 0; index < messages; index++) {
+            batch.append(VALID_LINE);
+        }
+        try (SocketChannel client = connect()) {
+            write(client, batch.toString());
+
+            awaitCondition(() -> queue.count() == maxQueueDepth);
+            Thread.sleep(100);
+            assertEquals(maxQueueDepth, queue.count());
+            assertEquals(maxQueueDepth, server.getAcceptedMessages());
+
+            int dequeued = 0;
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (dequeued < messages && System.currentTimeMillis() < deadline) {
+                if (queue.dequeue() != null) {
+                    dequeued++;
+                }
+                assertTrue(queue.count() <= maxQueueDepth);
+            }
+            assertEquals(messages, dequeued);
+        }
+    }
+
+    @Test
+    public void shouldRejectLineIfReceiverQueueOverflowsAndKeepServingConnections() throws Exception {
+        BoundedInstructionQueue boundedQueue = new BoundedInstructionQueue(1, OverflowPolicy.REJECT);
+        InstructionMessageReceiver receiver = new InstructionMessageReceiver(new InstructionMessageParser(),
+                new InstructionMessageValidator(), boundedQueue);
+        server = new InstructionMessageServer(receiver, boundedQueue, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                1, UNBOUNDED_QUEUE_DEPTH);
+        server.start();
+        try (SocketChannel client = connect()) {
+            write(client, VALID_LINE + VALID_LINE);
+
+            awaitCondition(() -> server.getAcceptedMessages() + server.getRejectedMessages() == 2);
+        }
+        assertEquals(1, server.getAcceptedMessages());
+        assertEquals(1, server.getRejectedMessages());
+        boundedQueue.dequeue();
+
+        try (SocketChannel client = connect()) {
+            write(client, VALID_LINE);
+
+            awaitCondition(() -> server.getAcceptedMessages() == 2);
+        }
+        assertEquals(1, boundedQueue.count());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.exceptions.InstructionQueueOverflowException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class BoundedInstructionQueueTest {
+
+    private static final int CAPACITY = 2;
+    private static final long BLOCK_TIMEOUT_MILLIS = 50;
+    private static final long LONG_BLOCK_TIMEOUT_MILLIS = 10_000;
+
+    private static InstructionMessage message(String instructionType) {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType(instructionType);
+        return message;
+    }
+
+    @Test
+    public void shouldRejectMessageIfQueueIsFull() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.REJECT);
+        queue.enqueue(message("C"));
+        queue.enqueue(message("C"));
+
+        boolean result = queue.offer(message("A"));
+
+        assertFalse(result);
+        assertEquals(CAPACITY, queue.count());
+        assertEquals(1, queue.getRejectedCount());
+        assertEquals(0, queue.getEvictedCount());
+    }
+
+    @Test(expected = InstructionQueueOverflowException.class)
+    public void shouldThrowExceptionIfEnqueueIntoFullQueue() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.REJECT);
+        queue.enqueue(message("A"));
+        queue.enqueue(message("A"));
+
+        queue.enqueue(message("A"));
+    }
+
+    @Test
+    public void shouldEvictOldestLowestPriorityMessageToAdmitHigherPriority() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.EVICT_LOWEST_PRIORITY);
+        InstructionMessage oldest = message("D");
+        InstructionMessage newest = message("C");
+        InstructionMessage high = message("A");
+        queue.enqueue(oldest);
+        queue.enqueue(newest);
+
+        queue.enqueue(high);
+
+        assertEquals(1, queue.getEvictedCount());
+        assertSame(high, queue.dequeue());
+        assertSame(newest, queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldRejectMessageIfNoLowerPriorityMessageCanBeEvicted() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.EVICT_LOWEST_PRIORITY);
+        queue.enqueue(message("B"));
+        queue.enqueue(message("C"));
+
+        boolean result = queue.offer(message("D"));
+
+        assertFalse(result);
+        assertEquals(0, queue.getEvictedCount());
+        assertEquals(1, queue.getRejectedCount());
+    }
+
+    @Test
+    public void shouldRejectWholeBatchIfItDoesNotFit() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.REJECT);
+        queue.enqueue(message("A"));
+
+        boolean result = queue.offerAll(Arrays.asList(message("A"), message("B")));
+
+        assertFalse(result);
+        assertEquals(1, queue.count());
+        assertEquals(2, queue.getRejectedCount());
+    }
+
+    @Test(expected = InstructionQueueOverflowException.class)
+    public void shouldThrowExceptionWithoutEnqueueingPartOfBatchIfItDoesNotFit() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.BLOCK, BLOCK_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS);
+        try {
+            queue.enqueueAll(Arrays.asList(message("A"), message("A"), message("A")));
+        } finally {
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldAdmitBatchByEvictingLowerPriorityMessagesOnlyIfWholeBatchFits() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.EVICT_LOWEST_PRIORITY);
+        queue.enqueue(message("B"));
+        queue.enqueue(message("C"));
+
+        assertFalse(queue.offerAll(Arrays.asList(message("A"), message("A"), message("A"))));
+        assertEquals(0, queue.getEvictedCount());
+        assertEquals(CAPACITY, queue.count());
+
+        InstructionMessage first = message("A");
+        InstructionMessage second = message("A");
+        assertTrue(queue.offerAll(Arrays.asList(first, second)));
+        assertEquals(2, queue.getEvictedCount());
+        assertSame(first, queue.dequeue());
+        assertSame(second, queue.dequeue());
+    }
+
+    @Test
+    public void shouldRejectMessageIfBlockTimeoutElapses() {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.BLOCK, BLOCK_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS);
+        queue.enqueue(message("A"));
+        queue.enqueue(message("A"));
+        long start = System.nanoTime();
+
+        boolean result = queue.offer(message("A"));
+
+        assertFalse(result);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(BLOCK_TIMEOUT_MILLIS));
+        assertEquals(1, queue.getRejectedCount());
+    }
+
+    @Test
+    public void shouldAdmitBlockedProducerOnceConsumerFreesCapacity() throws InterruptedException {
+        BoundedInstructionQueue queue = new BoundedInstructionQueue(CAPACITY, OverflowPolicy.BLOCK, LONG_BLOCK_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS);
+        queue.enqueue(message("B"));
+        queue.enqueue(message("B"));
+        InstructionMessage blocked = message("A");
+        Thread producer = new Thread(() -> queue.enqueue(blocked));
+
+        producer.start();
+        Thread.sleep(BLOCK_TIMEOUT_MILLIS);
+        queue.dequeue();
+        producer.join();
+
+        assertEquals(CAPACITY, queue.count());
+        assertSame(blocked, queue.peek());
+        assertEquals(0, queue.getRejectedCount());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentInstructionQueueTest {
+
+    private static final String[] INSTRUCTION_TYPES = {"A", "B", "C", "D"};
+    private static final int PRODUCERS = 8;
+    private static final int CONSUMERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 50_000;
+    private static final int TOTAL_MESSAGES = PRODUCERS * MESSAGES_PER_PRODUCER;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ConcurrentInstructionQueue queue = new ConcurrentInstructionQueue();
+
+    private InstructionMessage createInstructionMessage(String type, int quantity) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        instructionMessage.setInstructionType(type);
+        instructionMessage.setQuantity(quantity);
+        return instructionMessage;
+    }
+
+    private static int producerOf(InstructionMessage message) {
+        return message.getQuantity() / MESSAGES_PER_PRODUCER;
+    }
+
+    private static int sequenceOf(InstructionMessage message) {
+        return message.getQuantity() % MESSAGES_PER_PRODUCER;
+    }
+
+    @Test
+    public void shouldReturnNullIfDequeueEmptyQueue() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.dequeue());
+    }
+
+    @Test
+    public void shouldDequeueElementsByPriorityThenFifo() {
+        InstructionMessage messageC = createInstructionMessage("C", 1);
+        InstructionMessage messageB = createInstructionMessage("B", 2);
+        InstructionMessage messageD = createInstructionMessage("D", 3);
+        InstructionMessage messageA = createInstructionMessage("A", 4);
+        queue.enqueue(messageC);
+        queue.enqueue(messageB);
+        queue.enqueue(messageD);
+        queue.enqueue(messageA);
+        queue.enqueue(null);
+
+        assertEquals(4, queue.count());
+        assertEquals(messageA, queue.peek());
+        assertEquals(messageA, queue.dequeue());
+        assertEquals(messageB, queue.dequeue());
+        assertEquals(messageC, queue.dequeue());
+        assertEquals(messageD, queue.dequeue());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.count());
+    }
+
+    @Test
+    public void shouldReturnNullIfPollTimesOutOnEmptyQueue() throws InterruptedException {
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldReturnEnqueuedElementWithoutWaitingIfTakeFromNotEmptyQueue() throws InterruptedException {
+        InstructionMessage messageA = createInstructionMessage("A", 1);
+        queue.enqueue(messageA);
+
+        assertEquals(messageA, queue.take());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldWakeUpWaitingConsumerIfElementEnqueued() throws Exception {
+        InstructionMessage messageC = createInstructionMessage("C", 1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<InstructionMessage> taken = executor.submit(queue::take);
+            Future<InstructionMessage> polled = executor.submit(() -> queue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            assertFalse(taken.isDone());
+
+            queue.enqueue(messageC);
+            queue.enqueue(messageC);
+
+            assertEquals(messageC, taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(messageC, polled.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldDrainNoMoreThanMaxElementsInPriorityOrder() {
+        InstructionMessage messageC = createInstructionMessage("C", 1);
+        InstructionMessage messageB = createInstructionMessage("B", 2);
+        InstructionMessage messageA = createInstructionMessage("A", 3);
+        queue.enqueue(messageC);
+        queue.enqueue(messageB);
+        queue.enqueue(messageA);
+        List<InstructionMessage> drained = new ArrayList<>();
+
+        int result = queue.drainTo(drained, 2);
+
+        assertEquals(2, result);
+        assertEquals(Arrays.asList(messageA, messageB), drained);
+        assertEquals(1, queue.count());
+        assertEquals(messageC, queue.dequeue());
+    }
+
+    @Test
+    public void shouldNotLoseOrDuplicateMessagesAndKeepFifoPerPriorityUnderConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch producersDone = new CountDownLatch(PRODUCERS);
+        AtomicBoolean stop = new AtomicBoolean();
+        try {
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                int firstQuantity = producer * MESSAGES_PER_PRODUCER;
+                executor.submit(() -> {
+                    start.await();
+                    for (int sequence = 0; sequence < MESSAGES_PER_PRODUCER; sequence++) {
+                        String type = INSTRUCTION_TYPES[sequence % INSTRUCTION_TYPES.length];
+                        queue.enqueue(createInstructionMessage(type, firstQuantity + sequence));
+                    }
+                    producersDone.countDown();
+                    return null;
+                });
+            }
+            List<Future<List<InstructionMessage>>> consumers = new ArrayList<>();
+            for (int consumer = 0; consumer < CONSUMERS; consumer++) {
+                consumers.add(executor.submit(consumeUntilStopped(start, stop)));
+            }
+            start.countDown();
+            assertTrue(producersDone.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            stop.set(true);
+
+            boolean[] seen = new boolean[TOTAL_MESSAGES];
+            int received = 0;
+            for (Future<List<InstructionMessage>> consumer : consumers) {
+                List<InstructionMessage> messages = consumer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                assertFifoPerProducerAndType(messages);
+                for (InstructionMessage message : messages) {
+                    assertFalse(seen[message.getQuantity()]);
+                    seen[message.getQuantity()] = true;
+                    received++;
+                }
+            }
+            assertEquals(TOTAL_MESSAGES, received);
+            assertTrue(queue.isEmpty());
+            assertEquals(0, queue.count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<List<InstructionMessage>> consumeUntilStopped(CountDownLatch start, AtomicBoolean stop) {
+        return () -> {
+            List<InstructionMessage> messages = new ArrayList<>();
+            start.await();
+            while (true) {
+                boolean stopRequested = stop.get();
+                InstructionMessage message = queue.dequeue();
+                if (message != null) {
+                    messages.add(message);
+                } else if (stopRequested) {
+                    return messages;
+                }
+            }
+        };
+    }
+
+    private void assertFifoPerProducerAndType(List<InstructionMessage> messages) {
+        int[][] lastSequence = new int[PRODUCERS][INSTRUCTION_TYPES.length];
+        for (int[] producerSequences : lastSequence) {
+            Arrays.fill(producerSequences, -1);
+        }
+        for (InstructionMessage message : messages) {
+            int sequence = sequenceOf(message);
+            int type = sequence % INSTRUCTION_TYPES.length;
+            assertTrue(sequence > lastSequence[producerOf(message)][type]);
+            lastSequence[producerOf(message)][type] = sequence;
+        }
+    }
+
+    @Test
+    public void shouldEnqueueAllElementsAndWakeUpWaitingConsumer() throws Exception {
+        InstructionMessage messageD = createInstructionMessage("D", 1);
+        InstructionMessage messageB = createInstructionMessage("B", 2);
+        InstructionMessage messageB2 = createInstructionMessage("B", 3);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<InstructionMessage> taken = executor.submit(queue::take);
+            Thread.sleep(50);
+
+            queue.enqueueAll(Arrays.asList(messageD, messageB, null, messageB2));
+
+            assertEquals(messageB, taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(2, queue.count());
+            assertEquals(messageB2, queue.dequeue());
+            assertEquals(messageD, queue.dequeue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,247 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class DurableInstructionQueueTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000);
+    private static final int RECORD_SIZE = 32;
+    private static final int SMALL_SEGMENT_SIZE = 4 * RECORD_SIZE;
+    private static final int SYNC_EVERY_RECORD = 1;
+    private static final long GROUP_COMMIT_INTERVAL_MILLIS = 10;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = temporaryFolder.newFolder().toPath();
+    }
+
+    private DurableInstructionQueue openQueue() throws IOException {
+        return new DurableInstructionQueue(directory, SMALL_SEGMENT_SIZE, SYNC_EVERY_RECORD, GROUP_COMMIT_INTERVAL_MILLIS);
+    }
+
+    private InstructionMessage createInstructionMessage(String type, int quantity) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        instructionMessage.setInstructionType(type);
+        instructionMessage.setProductCode("MZ89");
+        instructionMessage.setQuantity(quantity);
+        instructionMessage.setUom(50);
+        instructionMessage.setTimestamp(TIMESTAMP);
+        return instructionMessage;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private void corrupt(Path segment, long position) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(position);
+            int value = file.read();
+            file.seek(position);
+            file.write(value ^ 0xFF);
+        }
+    }
+
+    private void truncate(Path segment, long length) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(length);
+        }
+    }
+
+    @Test
+    public void shouldStartEmptyIfDirectoryHasNoLog() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.dequeue());
+    }
+
+    @Test
+    public void shouldRecoverPendingMessagesInPriorityAndArrivalOrderAfterRestart() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        queue.enqueue(createInstructionMessage("C", 1));
+        queue.enqueue(createInstructionMessage("B", 2));
+        queue.enqueue(createInstructionMessage("D", 3));
+        queue.enqueue(createInstructionMessage("A", 4));
+        queue.enqueue(createInstructionMessage("B", 5));
+        queue.enqueue(createInstructionMessage("C", 6));
+        assertEquals(4, queue.dequeue().getQuantity());
+        assertEquals(2, queue.dequeue().getQuantity());
+        queue.close();
+
+        DurableInstructionQueue recovered = openQueue();
+
+        assertEquals(4, recovered.count());
+        InstructionMessage first = recovered.dequeue();
+        assertEquals("B", first.getInstructionType());
+        assertEquals("MZ89", first.getProductCode());
+        assertEquals(5, first.getQuantity());
+        assertEquals(TIMESTAMP, first.getTimestamp());
+        assertEquals(1, recovered.dequeue().getQuantity());
+        assertEquals(3, recovered.dequeue().getQuantity());
+        assertEquals(6, recovered.dequeue().getQuantity());
+        assertTrue(recovered.isEmpty());
+    }
+
+    @Test
+    public void shouldRollSegmentsAndRecoverAcrossThem() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        queue.close();
+
+        DurableInstructionQueue recovered = openQueue();
+
+        assertEquals(3, segments().size());
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            assertEquals(quantity, recovered.dequeue().getQuantity());
+        }
+    }
+
+    @Test
+    public void shouldDeleteConsumedSegmentsIfQueueBecomesEmpty() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        while (!queue.isEmpty()) {
+            queue.dequeue();
+        }
+        queue.enqueue(createInstructionMessage("A", 11));
+        queue.close();
+
+        assertEquals(2, segments().size());
+        DurableInstructionQueue recovered = openQueue();
+        assertEquals(1, recovered.count());
+        assertEquals(11, recovered.dequeue().getQuantity());
+    }
+
+    @Test
+    public void shouldDropTornRecordAndContinueAppendingIfSegmentTruncatedMidRecord() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        queue.enqueue(createInstructionMessage("B", 1));
+        queue.enqueue(createInstructionMessage("B", 2));
+        queue.enqueue(createInstructionMessage("B", 3));
+        queue.close();
+        truncate(segments().get(0), 2 * RECORD_SIZE + RECORD_SIZE / 2);
+
+        DurableInstructionQueue recovered = openQueue();
+        assertEquals(2, recovered.count());
+        recovered.enqueue(createInstructionMessage("B", 4));
+        recovered.close();
+
+        DurableInstructionQueue reopened = openQueue();
+        assertEquals(1, reopened.dequeue().getQuantity());
+        assertEquals(2, reopened.dequeue().getQuantity());
+        assertEquals(4, reopened.dequeue().getQuantity());
+        assertTrue(reopened.isEmpty());
+    }
+
+    @Test
+    public void shouldIgnoreSegmentsAfterTornRecord() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        for (int quantity = 1; quantity <= 6; quantity++) {
+            queue.enqueue(createInstructionMessage("D", quantity));
+        }
+        queue.close();
+        truncate(segments().get(0), 3 * RECORD_SIZE + 5);
+
+        DurableInstructionQueue recovered = openQueue();
+
+        assertEquals(3, recovered.count());
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    public void shouldDiscardRecordsAfterTornRecordSoTheyAreNotReplayedAfterNextCrash() throws IOException {
+        DurableInstructionQueue queue = new DurableInstructionQueue(directory, 4 * SMALL_SEGMENT_SIZE, SYNC_EVERY_RECORD,
+                GROUP_COMMIT_INTERVAL_MILLIS);
+        for (int quantity = 1; quantity <= 5; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        queue.close();
+        corrupt(segments().get(0), 2 * RECORD_SIZE + RECORD_SIZE / 2);
+
+        DurableInstructionQueue recovered = new DurableInstructionQueue(directory, 4 * SMALL_SEGMENT_SIZE, SYNC_EVERY_RECORD,
+                GROUP_COMMIT_INTERVAL_MILLIS);
+        assertEquals(2, recovered.count());
+        recovered.enqueue(createInstructionMessage("C", 99));
+        recovered.close();
+
+        DurableInstructionQueue reopened = new DurableInstructionQueue(directory, 4 * SMALL_SEGMENT_SIZE, SYNC_EVERY_RECORD,
+                GROUP_COMMIT_INTERVAL_MILLIS);
+        assertEquals(3, reopened.count());
+        assertEquals(1, reopened.dequeue().getQuantity());
+        assertEquals(2, reopened.dequeue().getQuantity());
+        assertEquals(99, reopened.dequeue().getQuantity());
+        assertTrue(reopened.isEmpty());
+    }
+
+    @Test
+    public void shouldDeleteSegmentsBelowLowestPendingMessageWhileBacklogRemains() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        for (int quantity = 1; quantity <= 12; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        for (int dequeued = 0; dequeued < 8; dequeued++) {
+            queue.dequeue();
+        }
+        queue.close();
+
+        assertEquals(3, segments().size());
+        DurableInstructionQueue recovered = openQueue();
+        assertEquals(4, recovered.count());
+        assertEquals(9, recovered.dequeue().getQuantity());
+    }
+
+    @Test
+    public void shouldSyncUnsyncedRecordsWithoutFurtherAppends() throws IOException, InterruptedException {
+        DurableInstructionQueue queue = new DurableInstructionQueue(directory, SMALL_SEGMENT_SIZE, Integer.MAX_VALUE, 1);
+        queue.enqueue(createInstructionMessage("C", 1));
+
+        Thread.sleep(100);
+
+        assertTrue(queue.isSynced());
+        queue.close();
+    }
+
+    @Test
+    public void shouldNotRecoverMessageWhoseConsumptionWasLoggedInLaterSegment() throws IOException {
+        DurableInstructionQueue queue = openQueue();
+        for (int quantity = 1; quantity <= 5; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        queue.dequeue();
+        queue.dequeue();
+        queue.close();
+
+        DurableInstructionQueue recovered = openQueue();
+
+        assertEquals(3, recovered.count());
+        assertEquals(3, recovered.dequeue().getQuantity());
+    }
+
+}
\ No newline at end of file
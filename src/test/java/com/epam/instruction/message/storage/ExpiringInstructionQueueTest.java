@@ -0,0 +1,129 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.PackedInstructionMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class ExpiringInstructionQueueTest {
+
+    private static final long NOW = 1_425_549_896_012L;
+    private static final long TTL_MILLIS = 1000;
+
+    private AtomicLong now = new AtomicLong(NOW);
+    private List<InstructionMessage> expired = new ArrayList<>();
+    private List<Long> expiredAges = new ArrayList<>();
+
+    private static InstructionMessage message(String instructionType, long timestampMillis) {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType(instructionType);
+        message.setProductCode("MZ89");
+        message.setQuantity(1);
+        message.setUom(50);
+        message.setTimestamp(PackedInstructionMessage.unpackTimestamp(timestampMillis));
+        return message;
+    }
+
+    private ExpiringInstructionQueue queue(Map<String, Long> ttlMillis) {
+        return new ExpiringInstructionQueue(ttlMillis, (message, ageMillis) -> {
+            expired.add(message);
+            expiredAges.add(ageMillis);
+        }, now::get);
+    }
+
+    @Test
+    public void shouldExpireMessagesOnceTheirInstructionTypeTtlElapses() {
+        ExpiringInstructionQueue queue = queue(Collections.singletonMap("A", TTL_MILLIS));
+        InstructionMessage expiring = message("A", NOW);
+        InstructionMessage kept = message("C", NOW);
+        queue.enqueue(expiring);
+        queue.enqueue(kept);
+
+        now.addAndGet(TTL_MILLIS - 1);
+        assertEquals(0, queue.expire());
+        assertEquals(2, queue.count());
+        now.addAndGet(1);
+
+        assertEquals(1, queue.expire());
+        assertEquals(1, queue.count());
+        assertEquals(1, queue.getExpiredCount());
+        assertEquals(Collections.singletonList(expiring), expired);
+        assertEquals(Collections.singletonList(TTL_MILLIS), expiredAges);
+        assertSame(kept, queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldExpireStaleMessageInsteadOfEnqueueingIt() {
+        ExpiringInstructionQueue queue = queue(Collections.singletonMap("B", TTL_MILLIS));
+
+        queue.enqueue(message("B", NOW - TTL_MILLIS));
+
+        assertTrue(queue.isEmpty());
+        assertEquals(1, queue.getExpiredCount());
+        assertEquals(Collections.singletonList(TTL_MILLIS), expiredAges);
+    }
+
+    @Test
+    public void shouldNotExpireDequeuedMessages() {
+        ExpiringInstructionQueue queue = queue(Collections.singletonMap("A", TTL_MILLIS));
+        InstructionMessage first = message("A", NOW);
+        InstructionMessage second = message("A", NOW);
+        queue.enqueue(first);
+        queue.enqueue(second);
+
+        assertSame(first, queue.dequeue());
+        now.addAndGet(TTL_MILLIS);
+
+        assertNull(queue.peek());
+        assertEquals(Collections.singletonList(second), expired);
+    }
+
+    @Test
+    public void shouldExpireEveryMessageNoEarlierThanItsTtlAcrossWheelLevels() {
+        Map<String, Long> ttlMillis = new HashMap<>();
+        ttlMillis.put("A", 1L);
+        ttlMillis.put("B", 70_000L);
+        ttlMillis.put("C", 300_000_000L);
+        ttlMillis.put("D", 20_000_000_000L);
+        ExpiringInstructionQueue queue = queue(ttlMillis);
+        Random random = new Random(42);
+        String[] types = {"A", "B", "C", "D"};
+        int messages = 10_000;
+        for (int index = 0; index < messages; index++) {
+            queue.enqueue(message(types[random.nextInt(types.length)], now.get() - random.nextInt(1000)));
+            now.addAndGet(random.nextInt(100));
+        }
+
+        while (queue.count() > 0) {
+            now.addAndGet(1 + (long) random.nextInt(1_000_000_000));
+            for (int index = 0; index < expired.size(); index++) {
+                long ttl = ttlMillis.get(expired.get(index).getInstructionType());
+                assertTrue(expiredAges.get(index) >= ttl);
+            }
+            InstructionMessage oldest = queue.peek();
+            if (oldest != null) {
+                long age = now.get() - PackedInstructionMessage.packTimestamp(oldest.getTimestamp());
+                assertTrue(age < ttlMillis.get(oldest.getInstructionType()));
+            }
+        }
+
+        assertEquals(messages, queue.getExpiredCount());
+        assertEquals(messages, expired.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTtlForUnknownInstructionType() {
+        queue(Collections.singletonMap("E", TTL_MILLIS));
+    }
+
+}
\ No newline at end of file
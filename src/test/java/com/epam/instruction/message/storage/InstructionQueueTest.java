@@ -2,7 +2,22 @@ package com.epam.instruction.message.storage;
 
 import com.epam.instruction.message.InstructionMessage;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.*;
 
@@ -14,6 +29,9 @@ public class InstructionQueueTest {
     private static final String INSTRUCTION_TYPE_C = "C";
     private static final String INSTRUCTION_TYPE_D = "D";
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private InstructionQueue queue = new InstructionQueue();
 
     private InstructionMessage messageA;
@@ -156,4 +174,314 @@ public class InstructionQueueTest {
         assertEquals(messageC3, queue.dequeue());
     }
 
+    @Test
+    public void shouldDequeueElementsByPriorityThenFifoIfPrioritiesInterleaved() {
+        queue.enqueue(messageC);
+        queue.enqueue(messageB);
+        queue.enqueue(messageD);
+        queue.enqueue(messageA);
+        queue.enqueue(messageB2);
+
+        assertEquals(messageA, queue.dequeue());
+        assertEquals(messageB, queue.dequeue());
+        assertEquals(messageB2, queue.dequeue());
+        assertEquals(messageC, queue.dequeue());
+        assertEquals(messageD, queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldEnqueueAllElementsExceptNullAccordingToPriority() {
+        queue.enqueueAll(Arrays.asList(messageC, null, messageB, messageA));
+
+        assertEquals(3, queue.count());
+        assertEquals(messageA, queue.dequeue());
+        assertEquals(messageB, queue.dequeue());
+        assertEquals(messageC, queue.dequeue());
+    }
+
+    private static InstructionMessage createInstructionMessage(String instructionType, String productCode, int quantity) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        instructionMessage.setInstructionType(instructionType);
+        instructionMessage.setProductCode(productCode);
+        instructionMessage.setQuantity(quantity);
+        return instructionMessage;
+    }
+
+    @Test
+    public void shouldMaintainPendingCountAndQuantityPerProduct() {
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_A, "XY12", 10));
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_C, "XY12", 5));
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_C, "XY12", 7));
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_B, "MZ89", 3));
+
+        assertEquals(3, queue.pendingCount("XY12"));
+        assertEquals(22, queue.pendingQuantity("XY12"));
+        assertEquals(2, queue.pendingCount("XY12", INSTRUCTION_TYPE_C));
+        assertEquals(12, queue.pendingQuantity("XY12", INSTRUCTION_TYPE_C));
+        assertEquals(0, queue.pendingCount("XY12", INSTRUCTION_TYPE_D));
+        assertEquals(0, queue.pendingCount("AA00"));
+
+        queue.dequeue();
+
+        assertEquals(2, queue.pendingCount("XY12"));
+        assertEquals(12, queue.pendingQuantity("XY12"));
+        assertEquals(0, queue.pendingCount("XY12", INSTRUCTION_TYPE_A));
+    }
+
+    @Test
+    public void shouldRemoveAllPendingMessagesForProduct() {
+        InstructionMessage other = createInstructionMessage(INSTRUCTION_TYPE_B, "MZ89", 3);
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_A, "XY12", 10));
+        queue.enqueue(other);
+        queue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_D, "XY12", 5));
+
+        int removed = queue.removeAll("XY12");
+
+        assertEquals(2, removed);
+        assertEquals(1, queue.count());
+        assertEquals(0, queue.pendingCount("XY12"));
+        assertEquals(0, queue.pendingQuantity("XY12"));
+        assertEquals(other, queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnZeroPendingForInvalidProductCode() {
+        queue.enqueue(messageA);
+
+        assertEquals(0, queue.pendingCount(null));
+        assertEquals(0, queue.pendingQuantity("xy12"));
+        assertEquals(0, queue.removeAll("XY1"));
+    }
+
+    @Test
+    public void shouldDequeueLanesInWeightedProportionWithWeightedFairScheduler() {
+        InstructionQueue weightedQueue = new InstructionQueue(new WeightedFairScheduler(6, 3, 1));
+        for (int index = 0; index < 20; index++) {
+            weightedQueue.enqueue(createInstructionMessageWithType(INSTRUCTION_TYPE_A));
+            weightedQueue.enqueue(createInstructionMessageWithType(INSTRUCTION_TYPE_B));
+            weightedQueue.enqueue(createInstructionMessageWithType(INSTRUCTION_TYPE_D));
+        }
+
+        StringBuilder order = new StringBuilder();
+        for (int index = 0; index < 20; index++) {
+            order.append(weightedQueue.dequeue().getInstructionType());
+        }
+
+        assertEquals("AAAAAABBBDAAAAAABBBD", order.toString());
+    }
+
+    @Test
+    public void shouldPromoteMessageWaitingLongerThanThresholdWithAgingScheduler() {
+        AtomicLong now = new AtomicLong();
+        InstructionQueue agingQueue = new InstructionQueue(new AgingScheduler(1000, 1000, 100), now::get);
+        agingQueue.enqueue(messageC);
+        now.addAndGet(50);
+        agingQueue.enqueue(messageA);
+        agingQueue.enqueue(messageB);
+
+        assertEquals(messageA, agingQueue.peek());
+
+        now.addAndGet(50);
+
+        assertEquals(messageC, agingQueue.peek());
+        assertEquals(messageC, agingQueue.dequeue());
+        assertEquals(messageA, agingQueue.dequeue());
+        assertEquals(messageB, agingQueue.dequeue());
+        assertTrue(agingQueue.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepWaitTimesOfRemainingMessagesAfterRemoveAll() {
+        AtomicLong now = new AtomicLong();
+        InstructionQueue agingQueue = new InstructionQueue(new AgingScheduler(1000, 1000, 100), now::get);
+        agingQueue.enqueue(createInstructionMessage(INSTRUCTION_TYPE_C, "XY12", 1));
+        InstructionMessage kept = createInstructionMessage(INSTRUCTION_TYPE_C, "MZ89", 1);
+        agingQueue.enqueue(kept);
+        now.addAndGet(100);
+        agingQueue.enqueue(messageA);
+
+        agingQueue.removeAll("XY12");
+
+        assertEquals(kept, agingQueue.dequeue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfWeightsDoNotMatchLanes() {
+        new InstructionQueue(new WeightedFairScheduler(6, 3));
+    }
+
+    @Test
+    public void shouldDequeueMessagesInOrderOfConfiguredPriorityPolicy() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put(INSTRUCTION_TYPE_D, 0);
+        priorities.put(INSTRUCTION_TYPE_C, 0);
+        priorities.put(INSTRUCTION_TYPE_A, 1);
+        InstructionQueue policyQueue = new InstructionQueue(new PriorityPolicy(priorities));
+        policyQueue.enqueue(messageA);
+        policyQueue.enqueue(messageC);
+        policyQueue.enqueue(messageD);
+
+        assertEquals(messageC, policyQueue.dequeue());
+        assertEquals(messageD, policyQueue.dequeue());
+        assertEquals(messageA, policyQueue.dequeue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfEnqueueTypeUnknownToPriorityPolicy() {
+        InstructionQueue policyQueue = new InstructionQueue(new PriorityPolicy(Collections.singletonMap(INSTRUCTION_TYPE_A, 0)));
+
+        policyQueue.enqueue(messageB);
+    }
+
+    @Test
+    public void shouldCompileDistinctPriorityLevelsIntoDenseLanes() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put(INSTRUCTION_TYPE_A, 7);
+        priorities.put(INSTRUCTION_TYPE_B, 50_000_000);
+        priorities.put(INSTRUCTION_TYPE_C, 7);
+
+        PriorityPolicy policy = new PriorityPolicy(priorities);
+
+        assertEquals(2, policy.numberOfLanes());
+        assertEquals(0, policy.laneOf(INSTRUCTION_TYPE_C));
+        assertEquals(1, policy.laneOf(INSTRUCTION_TYPE_B));
+        assertEquals(3, PriorityPolicy.DEFAULT.numberOfLanes());
+        assertEquals(PriorityPolicy.DEFAULT.laneOf(INSTRUCTION_TYPE_C), PriorityPolicy.DEFAULT.laneOf(INSTRUCTION_TYPE_D));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfPriorityPolicyTypeIsNotSingleCharacter() {
+        new PriorityPolicy(Collections.singletonMap("AB", 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfPriorityPolicyTypeIsNotSupportedByMessageFormat() {
+        new PriorityPolicy(Collections.singletonMap("E", 0));
+    }
+
+    @Test
+    public void shouldAcceptSchedulerMatchingPriorityPolicyLanes() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put(INSTRUCTION_TYPE_A, 0);
+        priorities.put(INSTRUCTION_TYPE_B, 1);
+        InstructionQueue weightedQueue = new InstructionQueue(new PriorityPolicy(priorities), new WeightedFairScheduler(1, 1), () -> 0);
+        weightedQueue.enqueue(messageA);
+        weightedQueue.enqueue(messageA);
+        weightedQueue.enqueue(messageB);
+
+        assertEquals(messageA, weightedQueue.dequeue());
+        assertEquals(messageB, weightedQueue.dequeue());
+        assertEquals(messageA, weightedQueue.dequeue());
+    }
+
+    private static InstructionMessage createPackableInstructionMessage(String instructionType, int quantity) {
+        InstructionMessage instructionMessage = createInstructionMessage(instructionType, "MZ89", quantity);
+        instructionMessage.setUom(50);
+        instructionMessage.setTimestamp(LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000));
+        return instructionMessage;
+    }
+
+    @Test
+    public void shouldRestoreSnapshotInIdenticalDequeueOrder() throws IOException {
+        String[] types = {INSTRUCTION_TYPE_C, INSTRUCTION_TYPE_A, INSTRUCTION_TYPE_D, INSTRUCTION_TYPE_B, INSTRUCTION_TYPE_C};
+        for (int quantity = 1; quantity <= 100_000; quantity++) {
+            queue.enqueue(createPackableInstructionMessage(types[quantity % types.length], quantity));
+        }
+        Path snapshot = temporaryFolder.newFile().toPath();
+
+        queue.snapshot(snapshot);
+        InstructionQueue restored = new InstructionQueue();
+        restored.restore(snapshot);
+
+        assertEquals(queue.count(), restored.count());
+        assertEquals(queue.pendingQuantity("MZ89"), restored.pendingQuantity("MZ89"));
+        while (!queue.isEmpty()) {
+            InstructionMessage expected = queue.dequeue();
+            InstructionMessage actual = restored.dequeue();
+            assertEquals(expected.getInstructionType(), actual.getInstructionType());
+            assertEquals(expected.getQuantity(), actual.getQuantity());
+            assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        }
+        assertTrue(restored.isEmpty());
+    }
+
+    @Test
+    public void shouldRestoreEmptySnapshot() throws IOException {
+        Path snapshot = temporaryFolder.newFile().toPath();
+
+        queue.snapshot(snapshot);
+        queue.restore(snapshot);
+
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldThrowExceptionIfFileIsNotSnapshot() throws IOException {
+        Path snapshot = temporaryFolder.newFile().toPath();
+        Files.write(snapshot, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        queue.restore(snapshot);
+    }
+
+    @Test(expected = EOFException.class)
+    public void shouldThrowExceptionIfSnapshotIsTruncated() throws IOException {
+        queue.enqueue(createPackableInstructionMessage(INSTRUCTION_TYPE_A, 1));
+        queue.enqueue(createPackableInstructionMessage(INSTRUCTION_TYPE_B, 2));
+        Path snapshot = temporaryFolder.newFile().toPath();
+        queue.snapshot(snapshot);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        new InstructionQueue().restore(snapshot);
+    }
+
+    @Test
+    public void shouldLeaveQueueEmptyIfSnapshotIsTruncated() throws IOException {
+        queue.enqueue(createPackableInstructionMessage(INSTRUCTION_TYPE_A, 1));
+        queue.enqueue(createPackableInstructionMessage(INSTRUCTION_TYPE_B, 2));
+        Path snapshot = temporaryFolder.newFile().toPath();
+        queue.snapshot(snapshot);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        InstructionQueue restored = new InstructionQueue();
+
+        try {
+            restored.restore(snapshot);
+            fail("Expected exception was not thrown");
+        } catch (EOFException e) {
+            assertTrue(restored.isEmpty());
+            assertEquals(0, restored.pendingCount("MZ89"));
+        }
+    }
+
+    @Test
+    public void shouldKeepPreviousSnapshotIfWritingNewOneFails() throws IOException {
+        queue.enqueue(createPackableInstructionMessage(INSTRUCTION_TYPE_A, 1));
+        Path snapshot = temporaryFolder.newFolder().toPath().resolve("queue.snapshot");
+        queue.snapshot(snapshot);
+        byte[] previous = Files.readAllBytes(snapshot);
+        queue.enqueue(messageB);
+
+        try {
+            queue.snapshot(snapshot);
+            fail("Expected exception was not thrown");
+        } catch (IllegalArgumentException e) {
+            assertArrayEquals(previous, Files.readAllBytes(snapshot));
+            assertEquals(1, snapshot.getParent().toFile().list().length);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowExceptionIfRestoringIntoNonEmptyQueue() throws IOException {
+        Path snapshot = temporaryFolder.newFile().toPath();
+        queue.snapshot(snapshot);
+        queue.enqueue(messageA);
+
+        queue.restore(snapshot);
+    }
+
 }
\ No newline at end of file
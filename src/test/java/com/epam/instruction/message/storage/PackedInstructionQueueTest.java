@@ -0,0 +1,94 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class PackedInstructionQueueTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000);
+    private static final int MESSAGES_TO_GROW_LANES = 1000;
+
+    private PackedInstructionQueue queue = new PackedInstructionQueue();
+
+    private InstructionMessage createInstructionMessage(String type, int quantity) {
+        InstructionMessage instructionMessage = new InstructionMessage();
+        instructionMessage.setInstructionType(type);
+        instructionMessage.setProductCode("MZ89");
+        instructionMessage.setQuantity(quantity);
+        instructionMessage.setUom(50);
+        instructionMessage.setTimestamp(TIMESTAMP);
+        return instructionMessage;
+    }
+
+    @Test
+    public void shouldReturnNullIfDequeueEmptyQueue() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.dequeue());
+    }
+
+    @Test
+    public void shouldNotEnqueueNull() {
+        queue.enqueue(null);
+
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfEnqueueMessageThatCanNotBePacked() {
+        queue.enqueue(new InstructionMessage());
+    }
+
+    @Test
+    public void shouldMaterializeEqualMessageIfPeekAndDequeue() {
+        queue.enqueue(createInstructionMessage("B", 5678));
+
+        InstructionMessage peeked = queue.peek();
+        InstructionMessage dequeued = queue.dequeue();
+
+        assertEquals("B", dequeued.getInstructionType());
+        assertEquals("MZ89", dequeued.getProductCode());
+        assertEquals(5678, dequeued.getQuantity());
+        assertEquals(50, dequeued.getUom());
+        assertEquals(TIMESTAMP, dequeued.getTimestamp());
+        assertEquals(peeked.getQuantity(), dequeued.getQuantity());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldDequeueElementsByPriorityThenFifo() {
+        queue.enqueueAll(Arrays.asList(createInstructionMessage("C", 1), createInstructionMessage("B", 2),
+                createInstructionMessage("D", 3), createInstructionMessage("A", 4), createInstructionMessage("B", 5)));
+
+        assertEquals(5, queue.count());
+        assertEquals(4, queue.dequeue().getQuantity());
+        assertEquals(2, queue.dequeue().getQuantity());
+        assertEquals(5, queue.dequeue().getQuantity());
+        assertEquals(1, queue.dequeue().getQuantity());
+        assertEquals(3, queue.dequeue().getQuantity());
+    }
+
+    @Test
+    public void shouldKeepFifoOrderIfLaneGrowsAfterWrappingAround() {
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+        for (int quantity = 1; quantity <= 5; quantity++) {
+            assertEquals(quantity, queue.dequeue().getQuantity());
+        }
+        for (int quantity = 11; quantity <= MESSAGES_TO_GROW_LANES; quantity++) {
+            queue.enqueue(createInstructionMessage("C", quantity));
+        }
+
+        for (int quantity = 6; quantity <= MESSAGES_TO_GROW_LANES; quantity++) {
+            assertEquals(quantity, queue.dequeue().getQuantity());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+}
\ No newline at end of file
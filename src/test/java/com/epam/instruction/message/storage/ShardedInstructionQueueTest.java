@@ -0,0 +1,84 @@
+package com.epam.instruction.message.storage;
+
+import com.epam.instruction.message.InstructionMessage;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ShardedInstructionQueueTest {
+
+    private static final int SHARDS = 4;
+
+    private ShardedInstructionQueue queue = new ShardedInstructionQueue(SHARDS);
+
+    private static InstructionMessage message(String instructionType, String productCode, int quantity) {
+        InstructionMessage message = new InstructionMessage();
+        message.setInstructionType(instructionType);
+        message.setProductCode(productCode);
+        message.setQuantity(quantity);
+        return message;
+    }
+
+    @Test
+    public void shouldKeepAllMessagesOfProductInOneShardInOrder() {
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            queue.enqueue(message("B", "XY12", quantity));
+        }
+
+        int occupiedShards = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            if (queue.count(shard) > 0) {
+                occupiedShards++;
+            }
+        }
+        assertEquals(1, occupiedShards);
+        for (int quantity = 1; quantity <= 10; quantity++) {
+            assertEquals(quantity, queue.dequeue(0).getQuantity());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void shouldStealFromOtherShardsIfOwnShardIsEmpty() {
+        queue.enqueueAll(Arrays.asList(message("C", "AA00", 1), message("A", "AA00", 2)));
+        int emptyShard = 0;
+        while (queue.count(emptyShard) > 0) {
+            emptyShard++;
+        }
+
+        InstructionMessage result = queue.dequeue(emptyShard);
+
+        assertEquals(2, result.getQuantity());
+        assertEquals(1, queue.getStolenMessages());
+        assertEquals(1, queue.count());
+    }
+
+    @Test
+    public void shouldDeliverEveryMessageExactlyOnceToConcurrentConsumers() throws InterruptedException {
+        int messages = 20_000;
+        for (int index = 0; index < messages; index++) {
+            queue.enqueue(message("ABCD".substring(index % 4, index % 4 + 1), "XY" + String.format("%02d", index % 100), 1));
+        }
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(SHARDS);
+
+        for (int consumer = 0; consumer < SHARDS; consumer++) {
+            int shard = consumer;
+            new Thread(() -> {
+                while (queue.dequeue(shard) != null) {
+                    consumed.incrementAndGet();
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        assertEquals(messages, consumed.get());
+        assertTrue(queue.isEmpty());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.epam.instruction.message.support;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class CachedEpochClockTest {
+
+    private static final long TICK_MILLIS = 1;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Test
+    public void shouldReturnSourceTimeCapturedOnCreation() {
+        try (CachedEpochClock clock = new CachedEpochClock(() -> 42, TICK_MILLIS)) {
+            assertEquals(42, clock.currentTimeMillis());
+        }
+    }
+
+    @Test
+    public void shouldRefreshTimeFromSourceInBackground() throws InterruptedException {
+        AtomicLong sourceTime = new AtomicLong(1000);
+        try (CachedEpochClock clock = new CachedEpochClock(sourceTime::get, TICK_MILLIS)) {
+            sourceTime.set(2000);
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (clock.currentTimeMillis() != 2000 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(TICK_MILLIS);
+            }
+
+            assertEquals(2000, clock.currentTimeMillis());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfTickIsNotPositive() {
+        new CachedEpochClock(new SystemEpochClock(), 0);
+    }
+
+}
\ No newline at end of file
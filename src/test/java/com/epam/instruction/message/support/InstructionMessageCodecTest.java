@@ -0,0 +1,77 @@
+package com.epam.instruction.message.support;
+
+import com.epam.instruction.message.InstructionMessage;
+import com.epam.instruction.message.support.exceptions.InstructionMessageParsingException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class InstructionMessageCodecTest {
+
+    private static final String VALID_INSTRUCTION_MESSAGE = "InstructionMessage C XY12 5678 50 2015-03-05T10:04:56.012Z";
+
+    private InstructionMessageCodec codec = new InstructionMessageCodec();
+    private InstructionMessage message = new InstructionMessageParser().parse(VALID_INSTRUCTION_MESSAGE);
+
+    @Test
+    public void shouldEncodeMessageIntoSixteenBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        codec.encode(message, buffer);
+
+        assertEquals(InstructionMessageCodec.RECORD_SIZE, buffer.position());
+        assertEquals(16, InstructionMessageCodec.RECORD_SIZE);
+    }
+
+    @Test
+    public void shouldDecodeEncodedMessage() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        codec.encode(message, buffer, 8);
+
+        InstructionMessage result = codec.decode(buffer, 8);
+
+        assertEquals("C", result.getInstructionType());
+        assertEquals("XY12", result.getProductCode());
+        assertEquals(5678, result.getQuantity());
+        assertEquals(50, result.getUom());
+        assertEquals(message.getTimestamp(), result.getTimestamp());
+    }
+
+    @Test
+    public void shouldReturnEmptyMessageViolationIfRecordIsTruncated() {
+        ByteBuffer buffer = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE - 1);
+
+        int result = codec.tryDecode(buffer, 0, new InstructionMessage());
+
+        assertEquals(InstructionMessageViolations.EMPTY_MESSAGE, result);
+    }
+
+    @Test
+    public void shouldReturnHeaderViolationIfReservedBitsAreSet() {
+        ByteBuffer buffer = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+        codec.encode(message, buffer, 0);
+        buffer.put(0, (byte) (buffer.get(0) | 0x80));
+
+        int result = codec.tryDecode(buffer, 0, new InstructionMessage());
+
+        assertEquals(InstructionMessageViolations.MESSAGE_HEADER, result);
+    }
+
+    @Test(expected = InstructionMessageParsingException.class)
+    public void shouldThrowExceptionIfProductCodeIndexIsOutOfRange() {
+        ByteBuffer buffer = ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE);
+        buffer.putLong(0, 0x1FFFFL << 39);
+
+        codec.decode(buffer, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionIfMessageCanNotBeEncoded() {
+        message.setProductCode("xy12");
+
+        codec.encode(message, ByteBuffer.allocate(InstructionMessageCodec.RECORD_SIZE));
+    }
+
+}
\ No newline at end of file
@@ -7,12 +7,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class InstructionMessageParserTest {
 
@@ -26,6 +30,9 @@ public class InstructionMessageParserTest {
     private static final String MESSAGE_WITH_THIRD_ELEMENT_NOT_INTEGER = "InstructionMessage 1 2 a 4 5";
     private static final String MESSAGE_WITH_FOURTH_ELEMENT_NOT_INTEGER = "InstructionMessage 1 2 3 a 5";
     private static final String MESSAGE_WITH_LAST_ELEMENT_NOT_DATE_IN_FORMAT = "InstructionMessage 1 2 3 4 a";
+    private static final String MESSAGE_WITH_QUANTITY_OUT_OF_INTEGER_RANGE = "InstructionMessage 1 2 2147483648 4 2015-03-05T10:04:56.012Z";
+    private static final String MESSAGE_WITH_DAY_OUT_OF_RANGE = "InstructionMessage 1 2 3 4 2015-03-32T10:04:56.012Z";
+    private static final String MESSAGE_FRAME_PREFIX = "garbage";
 
     private static final String CORRECT_HEADER = "InstructionMessage";
     private static final String CORRECT_INSTRUCTION_TYPE = "1";
@@ -111,4 +118,99 @@ public class InstructionMessageParserTest {
         assertEquals(CORRECT_TIMESTAMP, result.getTimestamp());
     }
 
+    @Test(expected = NumberFormatException.class)
+    public void shouldThrowExceptionIfQuantityOutOfIntegerRange() {
+        parser.parse(MESSAGE_WITH_QUANTITY_OUT_OF_INTEGER_RANGE);
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void shouldThrowExceptionIfTimestampFieldOutOfRange() {
+        parser.parse(MESSAGE_WITH_DAY_OUT_OF_RANGE);
+    }
+
+    @Test
+    public void shouldIgnoreTrailingDelimitersLikeStringSplit() {
+        InstructionMessage result = parser.parse(CORRECT_INPUT_MESSAGE + MESSAGE_ARGUMENTS_DELIMITER + MESSAGE_ARGUMENTS_DELIMITER);
+
+        assertEquals(CORRECT_TIMESTAMP, result.getTimestamp());
+    }
+
+    @Test
+    public void shouldParseMessageFromCharSequence() {
+        InstructionMessage result = parser.parse(new StringBuilder(CORRECT_INPUT_MESSAGE));
+
+        assertEquals(CORRECT_PRODUCT_CODE, result.getProductCode());
+        assertEquals(CORRECT_TIMESTAMP, result.getTimestamp());
+    }
+
+    @Test
+    public void shouldParseMessageFromByteArrayRegion() {
+        byte[] frame = (MESSAGE_FRAME_PREFIX + CORRECT_INPUT_MESSAGE + MESSAGE_FRAME_PREFIX).getBytes(StandardCharsets.US_ASCII);
+
+        InstructionMessage result = parser.parse(frame, MESSAGE_FRAME_PREFIX.length(), CORRECT_INPUT_MESSAGE.length());
+
+        assertEquals(CORRECT_INSTRUCTION_TYPE, result.getInstructionType());
+        assertEquals(CORRECT_QUANTITY, result.getQuantity());
+        assertEquals(CORRECT_TIMESTAMP, result.getTimestamp());
+    }
+
+    @Test
+    public void shouldParseMessageFromByteBufferRegion() {
+        byte[] frame = (MESSAGE_FRAME_PREFIX + CORRECT_INPUT_MESSAGE).getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(frame.length);
+        buffer.put(frame);
+
+        InstructionMessage result = parser.parse(buffer, MESSAGE_FRAME_PREFIX.length(), CORRECT_INPUT_MESSAGE.length());
+
+        assertEquals(CORRECT_PRODUCT_CODE, result.getProductCode());
+        assertEquals(CORRECT_UOM, result.getUom());
+        assertEquals(CORRECT_TIMESTAMP, result.getTimestamp());
+    }
+
+    @Test
+    public void shouldThrowExceptionWithMessageIfInputBytesAreEmpty() {
+        expectedException.expect(InstructionMessageParsingException.class);
+        expectedException.expectMessage(ERROR_MESSAGE_INPUT_IS_EMPTY);
+
+        parser.parse(new byte[0], 0, 0);
+    }
+
+    @Test
+    public void shouldReturnViolationAndLeaveTargetUntouchedIfTryParseIncorrectMessage() {
+        InstructionMessage target = new InstructionMessage();
+
+        assertEquals(InstructionMessageViolations.EMPTY_MESSAGE, parser.tryParse(StringUtils.EMPTY, target));
+        assertEquals(InstructionMessageViolations.ARGUMENTS_NUMBER, parser.tryParse(MESSAGE_WITH_NUMBER_OF_ELEMENTS_LESS_THEN_REQUIRED, target));
+        assertEquals(InstructionMessageViolations.MESSAGE_HEADER, parser.tryParse(MESSAGE_WITH_INCORRECT_HEADER, target));
+        assertEquals(InstructionMessageViolations.QUANTITY_FORMAT, parser.tryParse(MESSAGE_WITH_THIRD_ELEMENT_NOT_INTEGER, target));
+        assertEquals(InstructionMessageViolations.UOM_FORMAT, parser.tryParse(MESSAGE_WITH_FOURTH_ELEMENT_NOT_INTEGER, target));
+        assertEquals(InstructionMessageViolations.TIMESTAMP_FORMAT, parser.tryParse(MESSAGE_WITH_LAST_ELEMENT_NOT_DATE_IN_FORMAT, target));
+        assertEquals(InstructionMessageViolations.TIMESTAMP_FORMAT, parser.tryParse(MESSAGE_WITH_DAY_OUT_OF_RANGE, target));
+        assertNull(target.getInstructionType());
+        assertNull(target.getTimestamp());
+    }
+
+    @Test
+    public void shouldFillTargetAndReturnNoViolationsIfTryParseCorrectMessage() {
+        InstructionMessage target = new InstructionMessage();
+
+        int result = parser.tryParse(CORRECT_INPUT_MESSAGE, target);
+
+        assertEquals(InstructionMessageViolations.NONE, result);
+        assertEquals(CORRECT_PRODUCT_CODE, target.getProductCode());
+        assertEquals(CORRECT_TIMESTAMP, target.getTimestamp());
+    }
+
+    @Test
+    public void shouldShareTypeAndProductCodeInstancesBetweenParsedMessages() {
+        String message = "InstructionMessage B XY12 3 4 2015-03-05T10:04:56.012Z";
+
+        InstructionMessage first = parser.parse(message);
+        InstructionMessage second = parser.parse(message.getBytes(), 0, message.length());
+
+        assertSame(first.getInstructionType(), second.getInstructionType());
+        assertSame(first.getProductCode(), second.getProductCode());
+        assertEquals("XY12", first.getProductCode());
+    }
+
 }
\ No newline at end of file
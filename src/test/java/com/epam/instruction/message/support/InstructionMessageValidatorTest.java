@@ -9,8 +9,9 @@ import org.junit.rules.ExpectedException;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.ZoneOffset;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 public class InstructionMessageValidatorTest {
@@ -31,12 +32,15 @@ public class InstructionMessageValidatorTest {
     private static final String ILLEGAL_PRODUCT_CODE = "AB-D";
     private static final String PATTERN_NOT_MATCH_PRODUCT_CODE = "ab12";
     private static final String VALID_PRODUCT_CODE = "MZ89";
+    private static final String LOWERCASE_DIGITS_PRODUCT_CODE = "MZ8a";
 
     private static final int MIN_QUANTITY = 1;
     private static final int MAX_UOM = 255;
     private static final int MIN_UOM = 0;
-    private static final LocalDateTime UNIX_EPOCH = LocalDateTime.ofInstant(Instant.EPOCH, ZoneId.systemDefault());
-    private static final LocalDateTime AFTER_NOW = LocalDateTime.now().plusDays(1);
+    private static final LocalDateTime UNIX_EPOCH = LocalDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+    private static final LocalDateTime AFTER_NOW = LocalDateTime.now(ZoneOffset.UTC).plusDays(1);
+    private static final LocalDateTime FIXED_NOW = LocalDateTime.of(2015, 3, 5, 10, 4, 56, 12_000_000);
+    private static final long FIXED_NOW_MILLIS = FIXED_NOW.toInstant(ZoneOffset.UTC).toEpochMilli();
 
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
@@ -215,4 +219,82 @@ public class InstructionMessageValidatorTest {
         }
     }
 
+    @Test
+    public void shouldThrowExceptionWithMessageIfProductCodeHasLetterInDigitsPart() {
+        instructionMessage.setProductCode(LOWERCASE_DIGITS_PRODUCT_CODE);
+        expectedException.expect(InstructionMessageValidationException.class);
+        expectedException.expectMessage(ERROR_MESSAGE_PRODUCT_CODE_INVALID);
+
+        validator.validate(instructionMessage);
+    }
+
+    @Test
+    public void shouldThrowExceptionWithFirstMessageOnlyIfSeveralFieldsInvalidInFailFastMode() {
+        InstructionMessageValidator failFastValidator = new InstructionMessageValidator(ValidationMode.FAIL_FAST);
+        instructionMessage.setTimestamp(UNIX_EPOCH);
+        instructionMessage.setUom(MAX_UOM + 1);
+        instructionMessage.setProductCode(null);
+
+        try {
+            failFastValidator.validate(instructionMessage);
+            fail("Expected exception was not thrown");
+        } catch (InstructionMessageValidationException e) {
+            assertEquals(System.lineSeparator() + ERROR_MESSAGE_PRODUCT_CODE_INVALID, e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldNotThrowExceptionIfInstructionMessageIsValidInFailFastMode() {
+        try {
+            new InstructionMessageValidator(ValidationMode.FAIL_FAST).validate(instructionMessage);
+        } catch (InstructionMessageValidationException e) {
+            fail(UNEXPECTED_EXCEPTION);
+        }
+    }
+
+    @Test
+    public void shouldReturnNoViolationsIfCheckValidInstructionMessage() {
+        assertEquals(InstructionMessageViolations.NONE, validator.check(instructionMessage));
+    }
+
+    @Test
+    public void shouldReturnAllViolatedRulesIfCheckInstructionMessageWithSeveralFieldsInvalid() {
+        instructionMessage.setTimestamp(UNIX_EPOCH);
+        instructionMessage.setUom(MAX_UOM + 1);
+        instructionMessage.setProductCode(null);
+
+        int result = validator.check(instructionMessage);
+
+        assertEquals(InstructionMessageViolations.PRODUCT_CODE | InstructionMessageViolations.UOM
+                | InstructionMessageViolations.TIMESTAMP, result);
+    }
+
+    @Test
+    public void shouldReturnFirstViolatedRuleOnlyIfCheckInFailFastMode() {
+        instructionMessage.setUom(MAX_UOM + 1);
+        instructionMessage.setProductCode(null);
+
+        int result = new InstructionMessageValidator(ValidationMode.FAIL_FAST).check(instructionMessage);
+
+        assertEquals(InstructionMessageViolations.PRODUCT_CODE, result);
+    }
+
+    @Test
+    public void shouldAcceptTimestampEqualToClockTime() {
+        instructionMessage.setTimestamp(FIXED_NOW);
+
+        int result = new InstructionMessageValidator(ValidationMode.AGGREGATE_ERRORS, () -> FIXED_NOW_MILLIS).check(instructionMessage);
+
+        assertEquals(InstructionMessageViolations.NONE, result);
+    }
+
+    @Test
+    public void shouldReturnTimestampViolationIfTimestampIsOneMillisecondAfterClockTime() {
+        instructionMessage.setTimestamp(FIXED_NOW.plusNanos(1_000_000));
+
+        int result = new InstructionMessageValidator(ValidationMode.AGGREGATE_ERRORS, () -> FIXED_NOW_MILLIS).check(instructionMessage);
+
+        assertEquals(InstructionMessageViolations.TIMESTAMP, result);
+    }
+
 }
\ No newline at end of file